@@ -0,0 +1,84 @@
+package com.contentgrid.hateoas.spring.links;
+
+import com.contentgrid.hateoas.spring.annotations.PublicApi;
+import com.contentgrid.hateoas.uritemplate.ParameterReplacer;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate;
+import com.contentgrid.hateoas.uritemplate.SubstitutionVariableDefinition;
+import java.util.Arrays;
+import java.util.List;
+import lombok.NonNull;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Converts {@link ParameterizedUriTemplate}s to Spring HATEOAS {@link UriTemplate}s and {@link Link}s
+ * <p>
+ * Converted templates are cached per template and substitution values, so a template is only expanded and parsed by
+ * {@link UriTemplate#of(String)} the first time it is converted with a combination of substitution values.
+ */
+@PublicApi
+public class ParameterizedUriTemplateConverter {
+
+    private final ConcurrentLruCache<CacheKey, UriTemplate> cache;
+
+    /**
+     * @param cacheSize The maximum number of converted templates to cache
+     */
+    public ParameterizedUriTemplateConverter(int cacheSize) {
+        this.cache = new ConcurrentLruCache<>(cacheSize, ParameterizedUriTemplateConverter::convert);
+    }
+
+    /**
+     * Converts a parameterized URI template to a Spring HATEOAS URI template, by replacing all substitution variables
+     *
+     * @param template The template to convert
+     * @param replacer Replacer that will be used to fill in the substitution variables
+     * @return The URI template
+     * @see ParameterizedUriTemplate#expand(ParameterReplacer)
+     */
+    public <S extends Enum<S> & SubstitutionVariableDefinition> UriTemplate toUriTemplate(
+            @NonNull ParameterizedUriTemplate<S> template, @NonNull ParameterReplacer<S> replacer) {
+        var substitutionVariables = template.getSubstitutionVariables();
+        var values = new String[substitutionVariables.size()];
+        int i = 0;
+        for (var variable : substitutionVariables) {
+            values[i++] = replacer.replace(variable);
+        }
+        return cache.get(new CacheKey(template, Arrays.asList(values)));
+    }
+
+    /**
+     * Converts a parameterized URI template to a link, by replacing all substitution variables
+     *
+     * @param template The template to convert
+     * @param replacer Replacer that will be used to fill in the substitution variables
+     * @param relation The relation of the link
+     * @return The link
+     */
+    public <S extends Enum<S> & SubstitutionVariableDefinition> Link toLink(
+            @NonNull ParameterizedUriTemplate<S> template, @NonNull ParameterReplacer<S> replacer,
+            @NonNull LinkRelation relation) {
+        return Link.of(toUriTemplate(template, replacer), relation);
+    }
+
+    private static UriTemplate convert(CacheKey key) {
+        return UriTemplate.of(expand(key.template(), key.values()));
+    }
+
+    private static <S extends Enum<S> & SubstitutionVariableDefinition> String expand(
+            ParameterizedUriTemplate<S> template, List<String> values) {
+        var substitutionVariables = List.copyOf(template.getSubstitutionVariables());
+        return template.expand(variable -> values.get(substitutionVariables.indexOf(variable)));
+    }
+
+    /**
+     * @param template The template to convert
+     * @param values The values of the {@link ParameterizedUriTemplate#getSubstitutionVariables() substitution variables
+     * of the template}, in the same order
+     */
+    private record CacheKey(ParameterizedUriTemplate<?> template, List<String> values) {
+
+    }
+}
@@ -2,23 +2,47 @@ package com.contentgrid.hateoas.spring.pagination;
 
 import com.contentgrid.hateoas.pagination.api.Pagination;
 import com.contentgrid.hateoas.pagination.api.PaginationParameters;
+import com.contentgrid.hateoas.pagination.api.PaginationPolicyViolationException;
+import com.contentgrid.hateoas.pagination.api.PaginationSystemRegistry;
+import jakarta.servlet.http.HttpServletRequest;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
+import lombok.NonNull;
 import org.springframework.core.MethodParameter;
 import org.springframework.hateoas.server.mvc.UriComponentsContributor;
+import org.springframework.http.HttpStatus;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.util.UriComponentsBuilder;
 
 
 
 public class PaginationHandlerMethodArgumentResolver implements PaginationArgumentResolver, UriComponentsContributor {
 
+    private final PaginationSystemRegistry registry;
+
+    /**
+     * Creates a resolver that uses the {@link PaginationSystemRegistry#getDefault() default registry}
+     */
+    public PaginationHandlerMethodArgumentResolver() {
+        this(PaginationSystemRegistry.getDefault());
+    }
+
+    /**
+     * Creates a resolver that selects the pagination-system from the given registry
+     *
+     * @param registry the registry of pagination-systems
+     */
+    public PaginationHandlerMethodArgumentResolver(@NonNull PaginationSystemRegistry registry) {
+        this.registry = registry;
+    }
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return Pagination.class.equals(parameter.getParameterType());
@@ -28,15 +52,27 @@ public class PaginationHandlerMethodArgumentResolver implements PaginationArgume
     public Pagination resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
             NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
 
+        try {
+            return this.registry.create(getPaginationParameters(webRequest));
+        } catch (PaginationPolicyViolationException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    private static PaginationParameters getPaginationParameters(NativeWebRequest webRequest) {
+        // Reading the query string does not copy the parameters, nor does it parse a form body like getParameterMap()
+        var servletRequest = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (servletRequest != null) {
+            return PaginationParameters.fromQueryString(servletRequest.getQueryString());
+        }
+
         var parameterMap = webRequest.getParameterMap().entrySet()
                 .stream()
                 .collect(Collectors.toMap(
                         Entry::getKey,
                         entry -> List.of(entry.getValue())
                 ));
-        var parameters = new PaginationParameters(parameterMap);
-
-        return Pagination.from(parameters);
+        return new PaginationParameters(parameterMap);
     }
 
     @Override
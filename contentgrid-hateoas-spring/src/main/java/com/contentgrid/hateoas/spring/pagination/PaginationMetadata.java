@@ -1,5 +1,7 @@
 package com.contentgrid.hateoas.spring.pagination;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
@@ -13,4 +15,22 @@ class PaginationMetadata {
 
     @JsonProperty
     private Long page;
+
+    /**
+     * The total number of items, which is either counted exactly or estimated
+     */
+    @JsonProperty("total_items_estimate")
+    @JsonInclude(Include.NON_NULL)
+    private Long totalItemsEstimate;
+
+    /**
+     * The total number of items, only present when it was counted exactly
+     */
+    @JsonProperty("total_items_exact")
+    @JsonInclude(Include.NON_NULL)
+    private Long totalItemsExact;
+
+    PaginationMetadata(Integer size, Long page) {
+        this(size, page, null, null);
+    }
 }
@@ -0,0 +1,58 @@
+package com.contentgrid.hateoas.spring.pagination;
+
+import com.contentgrid.hateoas.pagination.api.PaginationPolicy;
+import com.contentgrid.hateoas.pagination.api.PaginationPolicy.Adjustment;
+import com.contentgrid.hateoas.pagination.api.PaginationPolicy.OffsetOverflow;
+import com.contentgrid.hateoas.spring.annotations.PublicApi;
+import java.util.Locale;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.core.env.PropertyResolver;
+
+/**
+ * Creates a {@link PaginationPolicy} from Spring properties
+ *
+ * <pre>
+ *     contentgrid.pagination.policy.default-limit=20
+ *     contentgrid.pagination.policy.max-limit=100
+ *     contentgrid.pagination.policy.max-offset=10000
+ *     contentgrid.pagination.policy.offset-overflow=reject
+ * </pre>
+ * <p>
+ * Requests that are changed by the policy are logged at debug level.
+ */
+@UtilityClass
+@PublicApi
+public class PaginationPolicyProperties {
+
+    public static final String PREFIX = "contentgrid.pagination.policy.";
+    public static final String DEFAULT_LIMIT = PREFIX + "default-limit";
+    public static final String MAX_LIMIT = PREFIX + "max-limit";
+    public static final String MAX_OFFSET = PREFIX + "max-offset";
+    public static final String OFFSET_OVERFLOW = PREFIX + "offset-overflow";
+
+    private static final Log LOG = LogFactory.getLog(PaginationPolicy.class);
+
+    /**
+     * @param properties the properties, usually the Spring {@link org.springframework.core.env.Environment}
+     * @return the policy configured by the properties; unset properties are unrestricted
+     */
+    public static PaginationPolicy bind(@NonNull PropertyResolver properties) {
+        var overflow = properties.getProperty(OFFSET_OVERFLOW, OffsetOverflow.REJECT.name());
+        return PaginationPolicy.unrestricted()
+                .withDefaultLimit(properties.getProperty(DEFAULT_LIMIT, Integer.class))
+                .withMaxLimit(properties.getProperty(MAX_LIMIT, Integer.class))
+                .withMaxOffset(properties.getProperty(MAX_OFFSET, Long.class))
+                .withOffsetOverflow(OffsetOverflow.valueOf(overflow.trim().toUpperCase(Locale.ROOT)))
+                .withListener(PaginationPolicyProperties::log);
+    }
+
+    private static void log(Adjustment adjustment) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Pagination %s %s was changed to %s by the pagination policy"
+                    .formatted(adjustment.getParameter(), adjustment.getRequested(), adjustment.getApplied()));
+        }
+    }
+}
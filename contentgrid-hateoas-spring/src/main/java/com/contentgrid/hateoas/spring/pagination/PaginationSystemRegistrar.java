@@ -0,0 +1,67 @@
+package com.contentgrid.hateoas.spring.pagination;
+
+import com.contentgrid.hateoas.pagination.api.PaginationPolicy;
+import com.contentgrid.hateoas.pagination.api.PaginationSystem;
+import com.contentgrid.hateoas.pagination.api.PaginationSystemRegistry;
+import com.contentgrid.hateoas.spring.annotations.PublicApi;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+/**
+ * Registers all {@link PaginationSystem} beans in a {@link PaginationSystemRegistry}, once all singletons have been
+ * instantiated. When a {@link PaginationPolicy} bean is available, it becomes the policy of the registry.
+ * <p>
+ * Unless a registry is passed in, the registrar uses a registry of its own, so the beans and the policy of one
+ * application context do not end up in the {@link PaginationSystemRegistry#getDefault() default registry} that is
+ * shared by everything in the JVM.
+ *
+ * <pre>
+ *     &#64;Bean
+ *     PaginationSystemRegistrar paginationSystemRegistrar(ObjectProvider&lt;PaginationSystem&gt; systems,
+ *             ObjectProvider&lt;PaginationPolicy&gt; policy) {
+ *         return new PaginationSystemRegistrar(systems, policy);
+ *     }
+ *
+ *     &#64;Bean
+ *     PaginationHandlerMethodArgumentResolver paginationResolver(PaginationSystemRegistrar registrar) {
+ *         return new PaginationHandlerMethodArgumentResolver(registrar.getRegistry());
+ *     }
+ * </pre>
+ */
+@RequiredArgsConstructor
+@PublicApi
+public class PaginationSystemRegistrar implements SmartInitializingSingleton {
+
+    @NonNull
+    @Getter
+    private final PaginationSystemRegistry registry;
+
+    @NonNull
+    private final ObjectProvider<PaginationSystem> systems;
+
+    private final ObjectProvider<PaginationPolicy> policy;
+
+    public PaginationSystemRegistrar(PaginationSystemRegistry registry, ObjectProvider<PaginationSystem> systems) {
+        this(registry, systems, null);
+    }
+
+    public PaginationSystemRegistrar(ObjectProvider<PaginationSystem> systems) {
+        this(new PaginationSystemRegistry(), systems, null);
+    }
+
+    public PaginationSystemRegistrar(ObjectProvider<PaginationSystem> systems,
+            ObjectProvider<PaginationPolicy> policy) {
+        this(new PaginationSystemRegistry(), systems, policy);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.systems.orderedStream().forEach(this.registry::register);
+        if (this.policy != null) {
+            this.policy.ifAvailable(this.registry::setPolicy);
+        }
+    }
+}
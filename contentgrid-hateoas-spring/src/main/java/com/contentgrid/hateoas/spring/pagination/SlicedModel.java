@@ -1,13 +1,25 @@
 package com.contentgrid.hateoas.spring.pagination;
 
+import com.contentgrid.hateoas.pagination.api.Slice.StreamingSlice;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.AbstractCollection;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.Link;
 import org.springframework.lang.Nullable;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.ser.std.StdSerializer;
 
 public class SlicedModel<T> extends CollectionModel<T> {
 
+    @JsonProperty("page")
+    @JsonInclude(Include.NON_NULL)
     private final PaginationMetadata metadata;
 
     protected SlicedModel(Collection<T> content, @Nullable PaginationMetadata metadata, Iterable<Link> links) {
@@ -20,6 +32,87 @@ public class SlicedModel<T> extends CollectionModel<T> {
         return new SlicedModel<>(content, metadata, List.of());
     }
 
+    /**
+     * Creates a model that reads its content from a {@link StreamingSlice} while it is being serialized, without copying
+     * it into a list first.
+     * <p>
+     * Accessing the content through {@link #getContent()} materializes it, which also happens when the model is
+     * rendered as HAL: that groups the embedded items by relation.
+     *
+     * @param content the slice to read the content from, which can only be consumed once
+     * @param metadata the pagination metadata. May be {@literal null}
+     * @return a model over the content of the slice
+     */
+    public static <T> SlicedModel<T> streaming(StreamingSlice<T> content, @Nullable PaginationMetadata metadata) {
+        return new StreamingSlicedModel<>(content, metadata);
+    }
+
+    private static class StreamingSlicedModel<T> extends SlicedModel<T> {
+
+        private final StreamingContent<T> content;
+
+        private StreamingSlicedModel(StreamingSlice<T> slice, @Nullable PaginationMetadata metadata) {
+            super(List.of(), metadata, List.of());
+            this.content = new StreamingContent<>(slice);
+        }
+
+        @Override
+        public Collection<T> getContent() {
+            return this.content;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return this.content.iterator();
+        }
+    }
+
+    /**
+     * Content of a {@link StreamingSlice}: the {@link Collection} methods see the materialized content, the
+     * {@link StreamingContentSerializer} reads the items straight from the slice.
+     */
+    @JsonSerialize(using = StreamingContentSerializer.class)
+    static class StreamingContent<T> extends AbstractCollection<T> {
 
+        private final StreamingSlice<T> slice;
 
+        private StreamingContent(StreamingSlice<T> slice) {
+            this.slice = slice;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return this.slice.getContent().iterator();
+        }
+
+        @Override
+        public int size() {
+            return this.slice.getContent().size();
+        }
+
+        /**
+         * @return the items, read from the slice as they are iterated
+         * @throws IllegalStateException when the content of the slice has already been consumed
+         */
+        Iterator<T> consume() {
+            return this.slice.iterator();
+        }
+    }
+
+    static class StreamingContentSerializer extends StdSerializer<StreamingContent<?>> {
+
+        StreamingContentSerializer() {
+            super(StreamingContent.class);
+        }
+
+        @Override
+        public void serialize(StreamingContent<?> value, JsonGenerator gen, SerializationContext context) {
+            gen.writeStartArray(value);
+            // does not call size(), which would materialize the content
+            for (var items = value.consume(); items.hasNext(); ) {
+                context.writeValue(gen, items.next());
+            }
+            gen.writeEndArray();
+        }
+    }
 }
@@ -3,8 +3,14 @@ package com.contentgrid.hateoas.spring.pagination;
 import com.contentgrid.hateoas.pagination.api.Pagination;
 import com.contentgrid.hateoas.pagination.api.PaginationControls;
 import com.contentgrid.hateoas.pagination.api.Slice;
+import com.contentgrid.hateoas.pagination.api.Slice.StreamingSlice;
+import com.contentgrid.hateoas.pagination.api.TotalCount;
+import java.time.Duration;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
@@ -17,19 +23,41 @@ import org.springframework.util.Assert;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponentsBuilder;
 
-@RequiredArgsConstructor
 public class SlicedResourcesAssembler<T> implements RepresentationModelAssembler<Slice<T>, SlicedModel<?>> {
 
+    /**
+     * Default time to wait for the {@link Slice#getTotalCount() total count} of a slice
+     */
+    public static final Duration DEFAULT_COUNT_TIMEOUT = Duration.ofMillis(100);
+
     private final PaginationHandlerMethodArgumentResolver paginationResolver;
 
+    private final Duration countTimeout;
+
+    public SlicedResourcesAssembler(PaginationHandlerMethodArgumentResolver paginationResolver) {
+        this(paginationResolver, DEFAULT_COUNT_TIMEOUT);
+    }
+
+    /**
+     * @param paginationResolver the resolver used to add pagination parameters to links
+     * @param countTimeout how long to wait for the total count of a slice. When the count is not available in time, it
+     *          is left out of the pagination metadata.
+     */
+    public SlicedResourcesAssembler(PaginationHandlerMethodArgumentResolver paginationResolver,
+            @NonNull Duration countTimeout) {
+        this.paginationResolver = paginationResolver;
+        this.countTimeout = countTimeout;
+    }
+
     @Override
     public SlicedModel<EntityModel<T>> toModel(Slice<T> slice) {
-        return createModel(slice.map(EntityModel::of), Optional.empty());
+        // the model copies the content once, so a view converts every item exactly once, without an extra list
+        return createModel(slice.mapView(EntityModel::of), Optional.empty());
     }
 
     public <R extends RepresentationModel<?>> SlicedModel<R> toModel(Slice<T> slice,
             RepresentationModelAssembler<T, R> assembler, Optional<Link> selfLink) {
-        return createModel(slice.map(assembler::toModel), selfLink);
+        return createModel(slice.mapView(assembler::toModel), selfLink);
     }
 
     public <S extends RepresentationModel<?>> SlicedModel<S> of(@NonNull Slice<S> slice) {
@@ -52,13 +80,32 @@ public class SlicedResourcesAssembler<T> implements RepresentationModelAssembler
 
 //        var content = slice.map(assembler::toModel).getContent();
         var metadata = asSliceMetadata(slice);
-        var model = SlicedModel.of(slice.getContent(), metadata);
+        // a streaming slice is read while the model is serialized, instead of being copied into the model
+        var model = slice instanceof StreamingSlice<S> streaming
+                ? SlicedModel.streaming(streaming, metadata)
+                : SlicedModel.of(slice.getContent(), metadata);
 
         return addPaginationLinks(model, slice, link);
     }
 
     private PaginationMetadata asSliceMetadata(@NonNull Slice<?> slice) {
-        return new PaginationMetadata(slice.getPagination().getLimit(), null);
+        var totalCount = slice.getTotalCount().flatMap(this::awaitTotalCount);
+        return new PaginationMetadata(slice.getPagination().getLimit(), null,
+                totalCount.map(TotalCount::getCount).orElse(null),
+                totalCount.filter(TotalCount::isExact).map(TotalCount::getCount).orElse(null));
+    }
+
+    private Optional<TotalCount> awaitTotalCount(CompletionStage<TotalCount> totalCount) {
+        // The count may be shared with other requests, so it is not cancelled when it takes too long
+        try {
+            return Optional.ofNullable(totalCount.toCompletableFuture()
+                    .get(this.countTimeout.toNanos(), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException | ExecutionException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
     }
 
     private <R> SlicedModel<R> addPaginationLinks(SlicedModel<R> model, PaginationControls controls, Optional<Link> link) {
@@ -0,0 +1,101 @@
+package com.contentgrid.hateoas.spring.links;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.hateoas.uritemplate.ParameterReplacer;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplateParser;
+import com.contentgrid.hateoas.uritemplate.SubstitutionVariableDefinition;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.UriTemplate;
+
+class ParameterizedUriTemplateConverterTest {
+
+    @RequiredArgsConstructor
+    @Getter
+    enum TestSubstitutionParameters implements SubstitutionVariableDefinition {
+        APPLICATION_ID("application.id");
+        private final String name;
+    }
+
+    private static final ParameterReplacer<TestSubstitutionParameters> REPLACER = variable -> "app 1";
+
+    private final ParameterizedUriTemplateParser<TestSubstitutionParameters> parser = new ParameterizedUriTemplateParser<>(
+            EnumSet.allOf(TestSubstitutionParameters.class)
+    );
+
+    private final ParameterizedUriTemplateConverter converter = new ParameterizedUriTemplateConverter(100);
+
+    static Stream<String> toUriTemplate() {
+        return Stream.of(
+                "https://example.com/apps/%{application.id}",
+                "https://example.com/apps/%{application.id}{?page,size}",
+                "https://example.com/apps/%{application.id}/items{/entity}{?page,size,sort*}",
+                "https://example.com/apps/%{application.id}{/entity}/items{?page}",
+                "https://example.com/apps{/entity}/%{application.id}",
+                "https://example.com/apps/%{application.id}{#section}",
+                "{?page,size}",
+                "{/entity}/items",
+                "/apps/%{application.id}{?page}&fixed=yes",
+                "https://example.com/apps/%{application.id}/items{/entity}{?q:3}"
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void toUriTemplate(String template) {
+        var parsed = parser.parseUnchecked(template);
+
+        var uriTemplate = converter.toUriTemplate(parsed, REPLACER);
+
+        var expected = UriTemplate.of(parsed.expand(REPLACER));
+        assertThat(uriTemplate.toString()).isEqualTo(expected.toString());
+        assertThat(uriTemplate.getVariables()).isEqualTo(expected.getVariables());
+        assertThat(uriTemplate.expand(Map.of("entity", "persons", "page", 1)))
+                .isEqualTo(expected.expand(Map.of("entity", "persons", "page", 1)));
+    }
+
+    @Test
+    void toUriTemplateIsCached() {
+        var parsed = parser.parseUnchecked("https://example.com/apps/%{application.id}{?page}");
+
+        assertThat(converter.toUriTemplate(parsed, REPLACER)).isSameAs(converter.toUriTemplate(parsed, REPLACER));
+        assertThat(converter.toUriTemplate(parsed, variable -> "other"))
+                .isNotEqualTo(converter.toUriTemplate(parsed, REPLACER));
+    }
+
+    @Test
+    void toUriTemplateIsCachedPerSubstitutionValue() {
+        var parsed = parser.parseUnchecked("/apps/%{application.id}/items/%{application.id}{?page}");
+        var replacements = new AtomicInteger();
+        ParameterReplacer<TestSubstitutionParameters> replacer = variable -> {
+            replacements.incrementAndGet();
+            return "app 1";
+        };
+
+        var first = converter.toUriTemplate(parsed, replacer);
+        assertThat(converter.toUriTemplate(parsed, replacer)).isSameAs(first);
+        assertThat(first).hasToString("/apps/app%201/items/app%201{?page}");
+        // a repeated substitution variable is replaced once per conversion
+        assertThat(replacements).hasValue(2);
+    }
+
+    @Test
+    void toLink() {
+        var parsed = parser.parseUnchecked("https://example.com/apps/%{application.id}{?page}");
+
+        var link = converter.toLink(parsed, REPLACER, IanaLinkRelations.SELF);
+
+        assertThat(link.getHref()).isEqualTo("https://example.com/apps/app%201{?page}");
+        assertThat(link.getRel()).isEqualTo(IanaLinkRelations.SELF);
+        assertThat(link.isTemplated()).isTrue();
+    }
+}
@@ -0,0 +1,148 @@
+package com.contentgrid.hateoas.spring.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contentgrid.hateoas.pagination.api.Pagination;
+import com.contentgrid.hateoas.pagination.api.PaginationParameters;
+import com.contentgrid.hateoas.pagination.api.PaginationPolicy;
+import com.contentgrid.hateoas.pagination.api.PaginationPolicy.Adjustment;
+import com.contentgrid.hateoas.pagination.api.PaginationSystem;
+import com.contentgrid.hateoas.pagination.api.PaginationSystemRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+class PaginationHandlerMethodArgumentResolverTest {
+
+    private final PaginationHandlerMethodArgumentResolver resolver = new PaginationHandlerMethodArgumentResolver(
+            new PaginationSystemRegistry(List.of(new PageSystem())));
+
+    @Test
+    void resolvesFromQueryString() {
+        var request = new MockHttpServletRequest("GET", "/items");
+        request.setQueryString("filter=a%26b&page=3&size=%32%30&page=4");
+
+        var pagination = resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+
+        assertThat(pagination.getLimit()).isEqualTo(20);
+        assertThat(pagination.getReference()).isEqualTo(Optional.of(3L));
+    }
+
+    @Test
+    void ignoresFormBody() {
+        var request = new MockHttpServletRequest("POST", "/items");
+        request.setContentType("application/x-www-form-urlencoded");
+        request.addParameter("page", "3");
+
+        var pagination = resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+
+        assertThat(pagination.isUnpaged()).isTrue();
+    }
+
+    @Test
+    void ignoresInvalidNumbers() {
+        var request = new MockHttpServletRequest("GET", "/items");
+        request.setQueryString("page=three&size");
+
+        var pagination = resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+
+        assertThat(pagination.getLimit()).isEqualTo(10);
+        assertThat(pagination.getReference()).isEqualTo(Optional.of(0L));
+    }
+
+    @Test
+    void appliesPolicy() {
+        var adjustments = new ArrayList<Adjustment>();
+        var registry = new PaginationSystemRegistry(List.of(new PageSystem()))
+                .setPolicy(PaginationPolicy.unrestricted().withMaxLimit(50).withDefaultLimit(20)
+                        .withListener(adjustments::add));
+        var policyResolver = new PaginationHandlerMethodArgumentResolver(registry);
+
+        var request = new MockHttpServletRequest("GET", "/items");
+        request.setQueryString("page=1&size=10000");
+        var pagination = policyResolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+
+        assertThat(pagination.getLimit()).isEqualTo(50);
+        assertThat(adjustments).containsExactly(new Adjustment(Adjustment.LIMIT, 10000, 50));
+
+        var unpaged = policyResolver.resolveArgument(null, null,
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/items")), null);
+        assertThat(unpaged.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void rejectsDeepOffsets() {
+        var registry = new PaginationSystemRegistry(List.of(new PageSystem()))
+                .setPolicy(PaginationPolicy.unrestricted().withMaxOffset(1000L));
+        var policyResolver = new PaginationHandlerMethodArgumentResolver(registry);
+
+        var request = new MockHttpServletRequest("GET", "/items");
+        request.setQueryString("page=101&size=10");
+
+        assertThatThrownBy(() -> policyResolver.resolveArgument(null, null, new ServletWebRequest(request), null))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private static class PageSystem implements PaginationSystem {
+
+        @Override
+        public boolean matches(PaginationParameters parameters) {
+            return parameters.containsKey("page");
+        }
+
+        @Override
+        public Set<String> getParameterKeys() {
+            return Set.of("page");
+        }
+
+        @Override
+        public Pagination create(PaginationParameters parameters) {
+            return this.create(parameters, PaginationPolicy.unrestricted());
+        }
+
+        @Override
+        public Pagination create(PaginationParameters parameters, PaginationPolicy policy) {
+            var page = parameters.getLong("page").orElse(0L);
+            var size = policy.applyLimit(parameters.getInt("size").orElse(10));
+            policy.applyOffset(page * size);
+            return new PagePagination(page, size);
+        }
+    }
+
+    private record PagePagination(long page, int size) implements Pagination {
+
+        @Override
+        public Integer getLimit() {
+            return this.size;
+        }
+
+        @Override
+        public Pagination withLimit(int limit) {
+            return new PagePagination(this.page, limit);
+        }
+
+        @Override
+        public Optional<Long> getReference() {
+            return Optional.of(this.page);
+        }
+
+        @Override
+        public boolean isFirstPage() {
+            return this.page == 0;
+        }
+
+        @Override
+        public Map<String, Object> getParameters() {
+            return Map.of("page", this.page, "size", this.size);
+        }
+    }
+}
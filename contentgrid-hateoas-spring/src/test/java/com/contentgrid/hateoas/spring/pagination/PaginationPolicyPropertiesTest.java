@@ -0,0 +1,39 @@
+package com.contentgrid.hateoas.spring.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.hateoas.pagination.api.PaginationPolicy.OffsetOverflow;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class PaginationPolicyPropertiesTest {
+
+    @Test
+    void bindsProperties() {
+        var environment = new MockEnvironment()
+                .withProperty("contentgrid.pagination.policy.default-limit", "20")
+                .withProperty("contentgrid.pagination.policy.max-limit", "100")
+                .withProperty("contentgrid.pagination.policy.max-offset", "10000")
+                .withProperty("contentgrid.pagination.policy.offset-overflow", "clamp");
+
+        var policy = PaginationPolicyProperties.bind(environment);
+
+        assertThat(policy.getDefaultLimit()).isEqualTo(20);
+        assertThat(policy.getMaxLimit()).isEqualTo(100);
+        assertThat(policy.getMaxOffset()).isEqualTo(10_000L);
+        assertThat(policy.getOffsetOverflow()).isEqualTo(OffsetOverflow.CLAMP);
+        assertThat(policy.applyOffset(50_000L)).isEqualTo(10_000L);
+    }
+
+    @Test
+    void unsetPropertiesAreUnrestricted() {
+        var policy = PaginationPolicyProperties.bind(new MockEnvironment());
+
+        assertThat(policy.getDefaultLimit()).isNull();
+        assertThat(policy.getMaxLimit()).isNull();
+        assertThat(policy.getMaxOffset()).isNull();
+        assertThat(policy.getOffsetOverflow()).isEqualTo(OffsetOverflow.REJECT);
+        assertThat(policy.applyLimit(null)).isNull();
+        assertThat(policy.applyOffset(1_000_000L)).isEqualTo(1_000_000L);
+    }
+}
@@ -0,0 +1,160 @@
+package com.contentgrid.hateoas.spring.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.hateoas.pagination.api.Pagination;
+import com.contentgrid.hateoas.pagination.api.PaginationControls;
+import com.contentgrid.hateoas.pagination.api.Slice;
+import com.contentgrid.hateoas.pagination.api.TotalCount;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import tools.jackson.databind.json.JsonMapper;
+
+class SlicedResourcesAssemblerTest {
+
+    private static final Optional<Link> SELF = Optional.of(Link.of("https://example.com/items"));
+
+    private final SlicedResourcesAssembler<Item> assembler = new SlicedResourcesAssembler<>(
+            new PaginationHandlerMethodArgumentResolver(), Duration.ofMillis(50));
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+
+    @Test
+    void emitsExactTotalCount() {
+        var slice = slice().withTotalCount(CompletableFuture.completedFuture(TotalCount.exact(42)));
+
+        var json = mapper.valueToTree(assembler.toModel(slice, EntityModel::of, SELF)).get("page");
+
+        assertThat(json.get("size").asInt()).isEqualTo(2);
+        assertThat(json.get("total_items_estimate").asLong()).isEqualTo(42);
+        assertThat(json.get("total_items_exact").asLong()).isEqualTo(42);
+    }
+
+    @Test
+    void emitsEstimatedTotalCount() {
+        var slice = slice().withTotalCount(CompletableFuture.completedFuture(TotalCount.estimated(1000)));
+
+        var json = mapper.valueToTree(assembler.toModel(slice, EntityModel::of, SELF)).get("page");
+
+        assertThat(json.get("total_items_estimate").asLong()).isEqualTo(1000);
+        assertThat(json.has("total_items_exact")).isFalse();
+    }
+
+    @Test
+    void omitsTotalCountAfterTimeout() {
+        var slice = slice().withTotalCount(new CompletableFuture<>());
+
+        var json = mapper.valueToTree(assembler.toModel(slice, EntityModel::of, SELF)).get("page");
+
+        assertThat(json.get("size").asInt()).isEqualTo(2);
+        assertThat(json.has("total_items_estimate")).isFalse();
+        assertThat(json.has("total_items_exact")).isFalse();
+    }
+
+    @Test
+    void omitsFailedTotalCount() {
+        var slice = slice().withTotalCount(CompletableFuture.failedFuture(new IllegalStateException()));
+
+        var json = mapper.valueToTree(assembler.toModel(slice, EntityModel::of, SELF)).get("page");
+
+        assertThat(json.has("total_items_estimate")).isFalse();
+    }
+
+    @Test
+    void serializesStreamingSliceWithoutCopyingIt() {
+        var pulled = new AtomicInteger();
+        var closed = new AtomicBoolean();
+        var source = Stream.of("a", "b", "c", "d")
+                .peek(name -> pulled.incrementAndGet())
+                .map(Item::new)
+                .onClose(() -> closed.set(true));
+        var slice = Slice.streaming(source, controls());
+
+        var model = assembler.toModel(slice, EntityModel::of, SELF);
+        assertThat(pulled).hasValue(0);
+
+        var json = mapper.valueToTree(model);
+
+        assertThat(json.get("content")).extracting(item -> item.get("name").asString())
+                .containsExactly("a", "b");
+        assertThat(json.get("page").get("size").asInt()).isEqualTo(2);
+        assertThat(pulled).hasValue(2);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void serializesCountedStreamingSliceWithoutCopyingIt() {
+        var pulled = new AtomicInteger();
+        var closed = new AtomicBoolean();
+        var source = Stream.of("a", "b", "c", "d")
+                .peek(name -> pulled.incrementAndGet())
+                .map(Item::new)
+                .onClose(() -> closed.set(true));
+        var slice = Slice.streaming(source, controls())
+                .withTotalCount(CompletableFuture.completedFuture(TotalCount.exact(4)));
+
+        var model = assembler.toModel(slice, EntityModel::of, SELF);
+        assertThat(pulled).hasValue(0);
+
+        var json = mapper.valueToTree(model);
+
+        assertThat(json.get("content")).extracting(item -> item.get("name").asString())
+                .containsExactly("a", "b");
+        assertThat(json.get("page").get("total_items_exact").asLong()).isEqualTo(4);
+        assertThat(pulled).hasValue(2);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void materializesStreamingContentWhenAccessed() {
+        var slice = Slice.streaming(Stream.of(new Item("a"), new Item("b"), new Item("c")), controls());
+
+        var model = assembler.toModel(slice, EntityModel::of, SELF);
+
+        assertThat(model.getContent()).extracting(EntityModel::getContent)
+                .containsExactly(new Item("a"), new Item("b"));
+        // the materialized content can be serialized, and accessed again
+        assertThat(mapper.valueToTree(model).get("content")).hasSize(2);
+        assertThat(model.getContent()).hasSize(2);
+    }
+
+    record Item(String name) {
+
+    }
+
+    private static Slice<Item> slice() {
+        return Slice.from(List.of(new Item("a"), new Item("b")), controls());
+    }
+
+    private static PaginationControls controls() {
+        return new PaginationControls() {
+            @Override
+            public Pagination current() {
+                return Pagination.limit(2);
+            }
+
+            @Override
+            public Optional<Pagination> next() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<Pagination> previous() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Pagination first() {
+                return this.current();
+            }
+        };
+    }
+}
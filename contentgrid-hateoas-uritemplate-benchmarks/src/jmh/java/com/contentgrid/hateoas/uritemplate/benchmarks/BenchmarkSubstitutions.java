@@ -0,0 +1,28 @@
+package com.contentgrid.hateoas.uritemplate.benchmarks;
+
+import com.contentgrid.hateoas.uritemplate.SubstitutionVariableDefinition;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum BenchmarkSubstitutions implements SubstitutionVariableDefinition {
+    APPLICATION_ID("application.id"),
+    APPLICATION_NAME("application.name"),
+    DOMAIN_NAME("domain_name"),
+    TENANT("tenant");
+
+    private final String name;
+
+    /**
+     * Realistic substitution values, of which one needs percent-encoding
+     */
+    public String value() {
+        return switch (this) {
+            case APPLICATION_ID -> "d6e2b5a4-35c1-4d6f-9a6f-0c7a3e9b2f11";
+            case APPLICATION_NAME -> "Customer Portal (EU)";
+            case DOMAIN_NAME -> "portal.eu.contentgrid.cloud";
+            case TENANT -> "acme";
+        };
+    }
+}
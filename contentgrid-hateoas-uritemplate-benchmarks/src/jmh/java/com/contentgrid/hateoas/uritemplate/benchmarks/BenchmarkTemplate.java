@@ -0,0 +1,21 @@
+package com.contentgrid.hateoas.uritemplate.benchmarks;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Templates with the shapes that occur in practice
+ */
+@RequiredArgsConstructor
+@Getter
+public enum BenchmarkTemplate {
+    SHORT_PATH("/applications/%{application.id}"),
+    MANY_EXPRESSIONS("/applications/%{application.id}{/entity,id}{/relation}{?page,size,sort*}{&filter*}{#section}"),
+    LONG_LITERALS("https://%{domain_name}/api/v1/organizations/default/applications/%{application.id}"
+            + "/configuration/entities/customer-orders/relations/order-lines/attributes/total-amount"
+            + "/history/revisions/latest/audit-log/entries{?page}"),
+    HEAVY_SUBSTITUTION("https://%{domain_name}/%{tenant}/%{application.id}/%{application.name}"
+            + "?tenant=%{tenant}&app=%{application.id}&name=%{application.name}&domain=%{domain_name}");
+
+    private final String template;
+}
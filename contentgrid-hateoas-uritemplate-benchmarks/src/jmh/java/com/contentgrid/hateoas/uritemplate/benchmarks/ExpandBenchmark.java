@@ -0,0 +1,65 @@
+package com.contentgrid.hateoas.uritemplate.benchmarks;
+
+import com.contentgrid.hateoas.uritemplate.ParameterReplacer;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplateParser;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class ExpandBenchmark {
+
+    private static final ParameterReplacer<BenchmarkSubstitutions> REPLACER = BenchmarkSubstitutions::value;
+
+    private static final Map<String, Object> VARIABLES = Map.of(
+            "entity", "customers",
+            "id", "42",
+            "page", 3,
+            "size", 20,
+            "sort", List.of("name,asc", "created,desc"),
+            "filter", Map.of("status", "active", "country", "BE")
+    );
+
+    @Param
+    BenchmarkTemplate template;
+
+    private ParameterizedUriTemplate<BenchmarkSubstitutions> parsed;
+
+    @Setup
+    public void setup() {
+        var parser = new ParameterizedUriTemplateParser<>(EnumSet.allOf(BenchmarkSubstitutions.class));
+        parsed = parser.parseUnchecked(template.getTemplate());
+    }
+
+    @Benchmark
+    public String expand() {
+        return parsed.expand(REPLACER);
+    }
+
+    @Benchmark
+    public String expandUri() {
+        return parsed.expand(REPLACER, VARIABLES);
+    }
+
+    @Benchmark
+    public String toTemplate() {
+        return parsed.toTemplate();
+    }
+
+    @Benchmark
+    public Collection<String> getTemplateVariables() {
+        return parsed.getTemplateVariables();
+    }
+
+    @Benchmark
+    public Collection<BenchmarkSubstitutions> getSubstitutionVariables() {
+        return parsed.getSubstitutionVariables();
+    }
+}
@@ -0,0 +1,57 @@
+package com.contentgrid.hateoas.uritemplate.benchmarks;
+
+import com.contentgrid.hateoas.uritemplate.ParameterReplacer;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplateParser;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Expands a template for every row of a collection, as done when rendering the links of a page of items
+ */
+@State(Scope.Benchmark)
+public class ExpandEachBenchmark {
+
+    private static final ParameterReplacer<BenchmarkSubstitutions> REPLACER = BenchmarkSubstitutions::value;
+
+    @Param
+    BenchmarkTemplate template;
+
+    @Param({"20", "500"})
+    int rows;
+
+    private ParameterizedUriTemplate<BenchmarkSubstitutions> parsed;
+
+    private List<Map<String, Object>> variables;
+
+    @Setup
+    public void setup() {
+        var parser = new ParameterizedUriTemplateParser<>(EnumSet.allOf(BenchmarkSubstitutions.class));
+        parsed = parser.parseUnchecked(template.getTemplate());
+
+        variables = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            variables.add(Map.of("entity", "customers", "id", Integer.toString(i), "page", i % 10));
+        }
+    }
+
+    @Benchmark
+    public void expandLoop(Blackhole blackhole) {
+        for (var row : variables) {
+            blackhole.consume(parsed.expand(REPLACER, row));
+        }
+    }
+
+    @Benchmark
+    public void expandEach(Blackhole blackhole) {
+        parsed.expandEach(REPLACER, variables, blackhole::consume);
+    }
+}
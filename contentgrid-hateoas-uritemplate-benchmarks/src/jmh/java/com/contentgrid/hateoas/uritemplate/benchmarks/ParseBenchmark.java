@@ -0,0 +1,33 @@
+package com.contentgrid.hateoas.uritemplate.benchmarks;
+
+import com.contentgrid.hateoas.uritemplate.InvalidUriTemplateException;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplateParser;
+import java.util.EnumSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    @Param
+    BenchmarkTemplate template;
+
+    private ParameterizedUriTemplateParser<BenchmarkSubstitutions> parser;
+
+    private String templateString;
+
+    @Setup
+    public void setup() {
+        parser = new ParameterizedUriTemplateParser<>(EnumSet.allOf(BenchmarkSubstitutions.class));
+        templateString = template.getTemplate();
+    }
+
+    @Benchmark
+    public ParameterizedUriTemplate<BenchmarkSubstitutions> parse() throws InvalidUriTemplateException {
+        return parser.parse(templateString);
+    }
+}
@@ -0,0 +1,207 @@
+package com.contentgrid.hateoas.uritemplate.processor;
+
+import com.contentgrid.hateoas.uritemplate.InvalidUriTemplateException;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplateParser;
+import com.contentgrid.hateoas.uritemplate.UriTemplatePartVisitor;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Validates {@code @PrecompiledUriTemplate} constants and generates a class with prebuilt
+ * {@code ParameterizedUriTemplate} constants for them
+ * <p>
+ * For every class that declares annotated constants, a class named <code>&lt;EnclosingClass&gt;UriTemplates</code> is
+ * generated in the same package (names of nested classes are joined with an underscore). The templates in the
+ * generated class are assembled with {@code ParameterizedUriTemplate#builder(Class)}, so no template string is parsed
+ * at runtime.
+ * <p>
+ * Template syntax is validated at compile time. Substitution variable names are resolved when the generated class is
+ * initialized, because the names are only known by running {@code SubstitutionVariableDefinition#getName()}.
+ */
+@SupportedAnnotationTypes(PrecompiledUriTemplateProcessor.ANNOTATION_TYPE)
+public class PrecompiledUriTemplateProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION_TYPE = "com.contentgrid.hateoas.uritemplate.PrecompiledUriTemplate";
+
+    private static final String GENERATED_SUFFIX = "UriTemplates";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (var annotation : annotations) {
+            Map<TypeElement, List<String>> constantsByType = new LinkedHashMap<>();
+            for (var element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                var constant = compileConstant(element, annotation);
+                if (constant != null) {
+                    constantsByType.computeIfAbsent((TypeElement) element.getEnclosingElement(), t -> new ArrayList<>())
+                            .add(constant);
+                }
+            }
+
+            constantsByType.forEach(this::writeTemplatesClass);
+        }
+        return true;
+    }
+
+    /**
+     * Validates an annotated constant and generates the declaration of its prebuilt template
+     *
+     * @return The generated field declaration, or {@code null} when the constant is invalid
+     */
+    private String compileConstant(Element element, TypeElement annotation) {
+        var annotationMirror = findAnnotationMirror(element, annotation);
+
+        if (element.getKind() != ElementKind.FIELD
+                || !element.getModifiers().containsAll(Set.of(Modifier.STATIC, Modifier.FINAL))
+                || !(((VariableElement) element).getConstantValue() instanceof String template)) {
+            error("@PrecompiledUriTemplate can only be used on static final String constants", element,
+                    annotationMirror);
+            return null;
+        }
+
+        DeclaredType substitutionType = null;
+        boolean allowTemplateVariables = true;
+        var values = processingEnv.getElementUtils().getElementValuesWithDefaults(annotationMirror);
+        for (var entry : values.entrySet()) {
+            switch (entry.getKey().getSimpleName().toString()) {
+                case "value" -> {
+                    if (entry.getValue().getValue() instanceof DeclaredType declaredType) {
+                        substitutionType = declaredType;
+                    }
+                }
+                case "allowTemplateVariables" -> allowTemplateVariables = (Boolean) entry.getValue().getValue();
+                default -> {
+                    // No other attributes affect the generated template
+                }
+            }
+        }
+
+        if (substitutionType == null || substitutionType.asElement().getKind() != ElementKind.ENUM) {
+            error("Substitution variables of @PrecompiledUriTemplate must be an enum", element, annotationMirror);
+            return null;
+        }
+
+        var substitutionTypeName = ((TypeElement) substitutionType.asElement()).getQualifiedName().toString();
+        var declaration = new StringBuilder();
+        declaration.append("    /**\n")
+                .append("     * @see ").append(((TypeElement) element.getEnclosingElement()).getQualifiedName())
+                .append('#').append(element.getSimpleName()).append('\n')
+                .append("     */\n")
+                .append("    public static final ParameterizedUriTemplate<").append(substitutionTypeName).append("> ")
+                .append(element.getSimpleName()).append(" = ParameterizedUriTemplate.builder(")
+                .append(substitutionTypeName).append(".class)\n");
+
+        try {
+            ParameterizedUriTemplateParser.visit(template, allowTemplateVariables, new SourceWriter(declaration));
+        } catch (InvalidUriTemplateException e) {
+            error(e.getMessage(), element, annotationMirror);
+            return null;
+        }
+
+        declaration.append("            .build();\n");
+        return declaration.toString();
+    }
+
+    private void writeTemplatesClass(TypeElement type, List<String> constants) {
+        var packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        var className = generatedClassName(type);
+        var qualifiedClassName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedClassName, type).openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate;\n");
+            writer.write("import javax.annotation.processing.Generated;\n\n");
+            writer.write("/**\n * Prebuilt URI templates of {@link " + type.getQualifiedName() + "}\n */\n");
+            writer.write("@Generated(\"" + getClass().getName() + "\")\n");
+            writer.write("public final class " + className + " {\n\n");
+            for (var constant : constants) {
+                writer.write(constant);
+                writer.write("\n");
+            }
+            writer.write("    private " + className + "() {\n    }\n}\n");
+        } catch (IOException e) {
+            error("Could not write " + qualifiedClassName + ": " + e.getMessage(), type, null);
+        }
+    }
+
+    private static String generatedClassName(TypeElement type) {
+        var name = new StringBuilder(type.getSimpleName());
+        var enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement enclosingType) {
+            name.insert(0, '_').insert(0, enclosingType.getSimpleName());
+            enclosing = enclosingType.getEnclosingElement();
+        }
+        return name.append(GENERATED_SUFFIX).toString();
+    }
+
+    private static AnnotationMirror findAnnotationMirror(Element element, TypeElement annotation) {
+        for (var mirror : element.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().asElement().equals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private void error(String message, Element element, AnnotationMirror annotationMirror) {
+        processingEnv.getMessager().printMessage(Kind.ERROR, message, element, annotationMirror);
+    }
+
+    /**
+     * Writes the builder calls that assemble a template from its parts
+     */
+    private class SourceWriter implements UriTemplatePartVisitor {
+
+        private final StringBuilder out;
+
+        SourceWriter(StringBuilder out) {
+            this.out = out;
+        }
+
+        @Override
+        public void visitLiteral(String value) {
+            out.append("            .literal(").append(literal(value)).append(")\n");
+        }
+
+        @Override
+        public void visitSubstitution(String name) {
+            out.append("            .substitution(").append(literal(name)).append(")\n");
+        }
+
+        @Override
+        public void visitExpression(String operator, List<String> variables) {
+            out.append("            .expression(").append(literal(operator));
+            for (var variable : variables) {
+                out.append(", ").append(literal(variable));
+            }
+            out.append(")\n");
+        }
+
+        private String literal(String value) {
+            return processingEnv.getElementUtils().getConstantExpression(value);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.contentgrid.hateoas.uritemplate.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplateParser;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import javax.tools.Diagnostic;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PrecompiledUriTemplateProcessorTest {
+
+    private static final String SUBSTITUTIONS = TestSubstitutionParameters.class.getCanonicalName();
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void generatesPrebuiltTemplates() throws Exception {
+        var result = compile(Map.of("test/Links.java", """
+                package test;
+
+                import com.contentgrid.hateoas.uritemplate.PrecompiledUriTemplate;
+
+                class Links {
+                    @PrecompiledUriTemplate(%s.class)
+                    static final String APPLICATION = "/apps/%%{application.id}/\\"items\\"{/entity}{?page,list*,var:3}";
+
+                    static class Nested {
+                        @PrecompiledUriTemplate(value = %s.class, allowTemplateVariables = false)
+                        public static final String PLAIN = "https://example.com/";
+                    }
+                }
+                """.formatted(SUBSTITUTIONS, SUBSTITUTIONS)));
+
+        assertThat(result).isEmpty();
+        assertThat(outputDirectory.resolve("test/LinksUriTemplates.java")).exists();
+        assertThat(outputDirectory.resolve("test/Links_NestedUriTemplates.java")).exists();
+
+        var parser = new ParameterizedUriTemplateParser<>(EnumSet.allOf(TestSubstitutionParameters.class));
+        try (var classLoader = new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()},
+                getClass().getClassLoader())) {
+            var template = (ParameterizedUriTemplate<?>) classLoader.loadClass("test.LinksUriTemplates")
+                    .getField("APPLICATION").get(null);
+            assertThat(template).isEqualTo(
+                    parser.parse("/apps/%{application.id}/\"items\"{/entity}{?page,list*,var:3}"));
+
+            var plain = (ParameterizedUriTemplate<?>) classLoader.loadClass("test.Links_NestedUriTemplates")
+                    .getField("PLAIN").get(null);
+            assertThat(plain.toTemplate()).isEqualTo("https://example.com/");
+        }
+    }
+
+    @Test
+    void reportsInvalidTemplate() throws IOException {
+        var result = compile(Map.of("test/Links.java", """
+                package test;
+
+                import com.contentgrid.hateoas.uritemplate.PrecompiledUriTemplate;
+
+                class Links {
+                    @PrecompiledUriTemplate(%s.class)
+                    static final String BROKEN = "/apps/{?page";
+                }
+                """.formatted(SUBSTITUTIONS)));
+
+        assertThat(result).singleElement()
+                .satisfies(diagnostic -> assertThat(diagnostic.getMessage(null))
+                        .startsWith("Invalid URI template at position 12"));
+        assertThat(outputDirectory.resolve("test/LinksUriTemplates.java")).doesNotExist();
+    }
+
+    @Test
+    void reportsExpressionsWhenNotAllowed() throws IOException {
+        var result = compile(Map.of("test/Links.java", """
+                package test;
+
+                import com.contentgrid.hateoas.uritemplate.PrecompiledUriTemplate;
+
+                class Links {
+                    @PrecompiledUriTemplate(value = %s.class, allowTemplateVariables = false)
+                    static final String EXPRESSION = "/apps{?page}";
+                }
+                """.formatted(SUBSTITUTIONS)));
+
+        assertThat(result).singleElement()
+                .satisfies(diagnostic -> assertThat(diagnostic.getMessage(null))
+                        .contains("URI template expressions are not allowed"));
+    }
+
+    @Test
+    void reportsNonConstantField() throws IOException {
+        var result = compile(Map.of("test/Links.java", """
+                package test;
+
+                import com.contentgrid.hateoas.uritemplate.PrecompiledUriTemplate;
+
+                class Links {
+                    @PrecompiledUriTemplate(%s.class)
+                    static String NOT_FINAL = "/apps";
+                }
+                """.formatted(SUBSTITUTIONS)));
+
+        assertThat(result).singleElement()
+                .satisfies(diagnostic -> assertThat(diagnostic.getMessage(null))
+                        .isEqualTo("@PrecompiledUriTemplate can only be used on static final String constants"));
+    }
+
+    /**
+     * Compiles sources with the annotation processor
+     *
+     * @return The error diagnostics of the compilation
+     */
+    private List<Diagnostic<? extends JavaFileObject>> compile(Map<String, String> sources) throws IOException {
+        var sourceDirectory = Files.createDirectories(outputDirectory.resolve("src"));
+        List<Path> sourceFiles = new ArrayList<>();
+        for (var source : sources.entrySet()) {
+            var file = sourceDirectory.resolve(source.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.getValue());
+            sourceFiles.add(file);
+        }
+
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            var task = compiler.getTask(null, fileManager, diagnostics, List.of(
+                    "-implicit:class",
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", outputDirectory.toString(),
+                    "-s", outputDirectory.toString()
+            ), null, fileManager.getJavaFileObjectsFromPaths(sourceFiles));
+            task.setProcessors(List.of(new PrecompiledUriTemplateProcessor()));
+            task.call();
+        }
+
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Kind.ERROR)
+                .toList();
+    }
+}
@@ -0,0 +1,12 @@
+package com.contentgrid.hateoas.uritemplate.processor;
+
+import com.contentgrid.hateoas.uritemplate.SubstitutionVariableDefinition;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum TestSubstitutionParameters implements SubstitutionVariableDefinition {
+    APPLICATION_ID("application.id");
+    private final String name;
+}
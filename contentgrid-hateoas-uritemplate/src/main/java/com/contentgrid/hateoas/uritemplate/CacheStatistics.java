@@ -0,0 +1,33 @@
+package com.contentgrid.hateoas.uritemplate;
+
+/**
+ * Statistics of a cache
+ *
+ * @param hitCount Number of lookups that were served from the cache
+ * @param missCount Number of lookups that were not found in the cache
+ * @param evictionCount Number of entries that were evicted from the cache
+ * @param size Current number of entries in the cache
+ * @param maximumSize Maximum number of entries in the cache
+ * @see ParameterizedUriTemplateParser#getCacheStatistics()
+ * @see MemoizingUriTemplateExpander#getCacheStatistics()
+ */
+public record CacheStatistics(
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        int size,
+        int maximumSize
+) {
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @return The ratio of lookups that were served from the cache, {@code 1.0} when there were no lookups yet
+     */
+    public double hitRate() {
+        var requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
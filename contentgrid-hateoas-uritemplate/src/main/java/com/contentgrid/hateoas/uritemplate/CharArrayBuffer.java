@@ -0,0 +1,75 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import java.util.Arrays;
+
+/**
+ * Growable character buffer that exposes its backing array, so its contents can be handed to APIs that accept a
+ * {@code char[]} slice without creating an intermediate {@link String}
+ */
+final class CharArrayBuffer implements Appendable {
+
+    private char[] chars;
+
+    private int length;
+
+    CharArrayBuffer(int capacity) {
+        this.chars = new char[capacity];
+    }
+
+    char[] chars() {
+        return chars;
+    }
+
+    int length() {
+        return length;
+    }
+
+    int capacity() {
+        return chars.length;
+    }
+
+    void clear() {
+        length = 0;
+    }
+
+    @Override
+    public CharArrayBuffer append(CharSequence csq) {
+        var sequence = csq == null ? "null" : csq;
+        return append(sequence, 0, sequence.length());
+    }
+
+    @Override
+    public CharArrayBuffer append(CharSequence csq, int start, int end) {
+        var sequence = csq == null ? "null" : csq;
+        ensureCapacity(length + end - start);
+        if (sequence instanceof String string) {
+            string.getChars(start, end, chars, length);
+        } else if (sequence instanceof StringBuilder builder) {
+            builder.getChars(start, end, chars, length);
+        } else {
+            for (int i = start; i < end; i++) {
+                chars[length + i - start] = sequence.charAt(i);
+            }
+        }
+        length += end - start;
+        return this;
+    }
+
+    @Override
+    public CharArrayBuffer append(char c) {
+        ensureCapacity(length + 1);
+        chars[length++] = c;
+        return this;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+}
@@ -0,0 +1,110 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Concurrent, size-bounded cache
+ * <p>
+ * Lookups are lock-free. When the cache grows beyond its maximum size, entries are evicted using the CLOCK
+ * (second-chance) approximation of LRU: every lookup marks an entry as referenced, and eviction skips (and clears)
+ * referenced entries once before removing them.
+ *
+ * @param <K> The type of the cache keys
+ * @param <V> The type of the cached values
+ */
+final class ClockCache<K, V> {
+
+    private final int maximumSize;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private final Queue<K> clock = new ConcurrentLinkedQueue<>();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    ClockCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum cache size must be positive, but was %d".formatted(maximumSize));
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return The cached value, or {@code null} when there is no value for the key
+     */
+    V get(K key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        entry.referenced = true;
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Adds a value to the cache, unless a value is already cached for the key
+     *
+     * @return The value that is cached for the key
+     */
+    V put(K key, V value) {
+        var existing = entries.putIfAbsent(key, new Entry<>(value));
+        if (existing != null) {
+            // Computed concurrently by another thread; hand out the same instance to everyone
+            return existing.value;
+        }
+        clock.add(key);
+        evictIfNecessary();
+        return value;
+    }
+
+    private void evictIfNecessary() {
+        // When another thread is already evicting, it will also take care of the entry that was just added
+        if (entries.size() <= maximumSize || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            while (entries.size() > maximumSize) {
+                var key = clock.poll();
+                if (key == null) {
+                    return;
+                }
+                var entry = entries.get(key);
+                if (entry == null) {
+                    continue;
+                }
+                if (entry.referenced) {
+                    entry.referenced = false;
+                    clock.add(key);
+                } else if (entries.remove(key, entry)) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    CacheStatistics statistics() {
+        return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), entries.size(), maximumSize);
+    }
+
+    @RequiredArgsConstructor
+    private static final class Entry<V> {
+
+        private final V value;
+
+        private volatile boolean referenced;
+    }
+}
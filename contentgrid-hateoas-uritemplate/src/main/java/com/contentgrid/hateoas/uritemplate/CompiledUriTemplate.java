@@ -0,0 +1,127 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.SubstitutionUriTemplatePart;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.UriTemplatePart;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Precomputed expansion plan for a {@link ParameterizedUriTemplate}.
+ * <p>
+ * Literal parts and URI template expressions never change during expansion, so all consecutive non-substitution parts
+ * are merged into a single literal segment up front. Expanding then only has to interleave these segments with the
+ * replaced substitution variables, appending everything into one builder that is sized for the result.
+ * <p>
+ * The plan has {@code n} substitution variables and always {@code n + 1} literal segments (which can be empty).
+ * Literal segments can be shared with other plans (see {@link UriTemplateInterner}), and the template string is only
+ * built when it is requested, so a plan does not keep a second copy of the whole template around.
+ *
+ * @param <S> The enum type that contains the supported substitution variables
+ */
+final class CompiledUriTemplate<S extends Enum<S> & SubstitutionVariableDefinition> {
+
+    /**
+     * Number of characters reserved for every substitution value when sizing the output buffer
+     */
+    private static final int ESTIMATED_SUBSTITUTION_LENGTH = 16;
+
+    /**
+     * Lazily built, like {@link String#hashCode()}: racing threads build equal strings
+     */
+    private String template;
+
+    private final String[] literals;
+
+    private final S[] substitutions;
+
+    private final int literalLength;
+
+    /**
+     * @param parts The parts of the template
+     * @param strings Returns the instance to use for a literal segment, so equal segments can be shared
+     */
+    @SuppressWarnings("unchecked")
+    CompiledUriTemplate(List<UriTemplatePart<S>> parts, UnaryOperator<String> strings) {
+        List<String> literalSegments = new ArrayList<>();
+        List<S> substitutionVariables = new ArrayList<>();
+
+        var segment = new StringBuilder();
+        for (var part : parts) {
+            if (part instanceof SubstitutionUriTemplatePart<S> substitutionPart) {
+                literalSegments.add(strings.apply(segment.toString()));
+                substitutionVariables.add(substitutionPart.getVariable());
+                segment.setLength(0);
+            } else {
+                segment.append(part.toTemplate());
+            }
+        }
+        literalSegments.add(strings.apply(segment.toString()));
+
+        this.literals = literalSegments.toArray(String[]::new);
+        this.substitutions = substitutionVariables.toArray((S[]) new Enum<?>[0]);
+
+        int length = 0;
+        for (var literal : this.literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    String toTemplate() {
+        var result = template;
+        if (result == null) {
+            result = buildTemplate();
+            template = result;
+        }
+        return result;
+    }
+
+    private String buildTemplate() {
+        if (substitutions.length == 0) {
+            return literals[0];
+        }
+        var sb = new StringBuilder(literalLength + substitutions.length * ESTIMATED_SUBSTITUTION_LENGTH);
+        sb.append(literals[0]);
+        for (int i = 0; i < substitutions.length; i++) {
+            sb.append("%{").append(substitutions[i].getName()).append('}');
+            sb.append(literals[i + 1]);
+        }
+        return sb.toString();
+    }
+
+    String expand(ParameterReplacer<S> replacer) {
+        if (substitutions.length == 0) {
+            return literals[0];
+        }
+
+        var sb = new StringBuilder(estimatedLength());
+        expandTo(sb, replacer);
+        return sb.toString();
+    }
+
+    void expandTo(StringBuilder out, ParameterReplacer<S> replacer) {
+        out.append(literals[0]);
+        for (int i = 0; i < substitutions.length; i++) {
+            UriEncoder.encode(replacer.replace(substitutions[i]), false, out);
+            out.append(literals[i + 1]);
+        }
+    }
+
+    void expandTo(Appendable out, ParameterReplacer<S> replacer) throws IOException {
+        out.append(literals[0]);
+        for (int i = 0; i < substitutions.length; i++) {
+            UriEncoder.encode(replacer.replace(substitutions[i]), false, out);
+            out.append(literals[i + 1]);
+        }
+    }
+
+    /**
+     * @return The expected length of an expanded template, for sizing output buffers
+     */
+    int estimatedLength() {
+        return literalLength + substitutions.length * ESTIMATED_SUBSTITUTION_LENGTH;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * Reports all templates in a {@link UriTemplateCatalog} that failed to parse
+ */
+@Getter
+public class InvalidUriTemplateCatalogException extends Exception {
+
+    /**
+     * The parse failures, by template name
+     */
+    private final Map<String, InvalidUriTemplateException> failures;
+
+    public InvalidUriTemplateCatalogException(Map<String, InvalidUriTemplateException> failures) {
+        this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+        failures.values().forEach(this::addSuppressed);
+    }
+
+    @Override
+    public String getMessage() {
+        var sb = new StringBuilder();
+        sb.append(failures.size()).append(" invalid URI template(s)");
+        failures.forEach((name, failure) -> sb.append(System.lineSeparator())
+                .append(name).append(": ").append(failure.getMessage()));
+        return sb.toString();
+    }
+}
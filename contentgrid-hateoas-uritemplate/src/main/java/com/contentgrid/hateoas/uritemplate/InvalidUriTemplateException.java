@@ -2,6 +2,15 @@ package com.contentgrid.hateoas.uritemplate;
 
 import lombok.Getter;
 
+/**
+ * Thrown when a template string is not a valid parameterized URI template
+ * <p>
+ * The exception does not capture a stack trace: the position in the template string identifies the problem, and
+ * invalid templates are an expected outcome when validating user input. The message, which points out the position
+ * in the template, is only formatted when it is requested.
+ *
+ * @see ParameterizedUriTemplateParser#tryParse(String) for parsing without exceptions
+ */
 @Getter
 public class InvalidUriTemplateException extends Exception {
 
@@ -10,6 +19,11 @@ public class InvalidUriTemplateException extends Exception {
     private final String description;
 
     public InvalidUriTemplateException(String uriTemplate, int position, String message) {
+        this(uriTemplate, position, message, null);
+    }
+
+    public InvalidUriTemplateException(String uriTemplate, int position, String message, Throwable cause) {
+        super(null, cause, false, false);
         this.template = uriTemplate;
         this.position = position;
         this.description = message;
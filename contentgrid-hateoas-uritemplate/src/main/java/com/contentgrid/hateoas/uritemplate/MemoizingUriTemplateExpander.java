@@ -0,0 +1,110 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+
+/**
+ * Expands a {@link ParameterizedUriTemplate}, remembering the expanded template for every distinct set of
+ * substitution values.
+ * <p>
+ * Substitution variables typically take only a handful of distinct values (e.g. one per application), so expanding
+ * the same template for the same values again becomes a single map lookup, instead of replacing and encoding every
+ * substitution variable again.
+ *
+ * @param <S> The enum type that contains the supported substitution variables
+ * @see ParameterizedUriTemplate#memoizing(int) for creating this object
+ */
+public final class MemoizingUriTemplateExpander<S extends Enum<S> & SubstitutionVariableDefinition> {
+
+    private final ParameterizedUriTemplate<S> template;
+
+    private final S[] substitutionVariables;
+
+    /**
+     * Cached expansions, keyed by the values of {@link #substitutionVariables}, in the same order
+     */
+    private final ClockCache<List<String>, String> cache;
+
+    @SuppressWarnings("unchecked")
+    MemoizingUriTemplateExpander(ParameterizedUriTemplate<S> template, int maximumSize) {
+        this.template = template;
+        this.substitutionVariables = template.getSubstitutionVariables().toArray((S[]) new Enum<?>[0]);
+        this.cache = new ClockCache<>(maximumSize);
+    }
+
+    /**
+     * Converts the parameterized URI template to a URI template string by replacing all substitution variables
+     *
+     * @param substitutions Values of the substitution variables. Only the values of the substitution variables that are
+     * used in the template are looked up; other entries are ignored and may be {@literal null}.
+     * @return An RFC6570 URI template
+     * @throws IllegalArgumentException When no value is present for a substitution variable used in the template
+     * @see ParameterizedUriTemplate#expand(ParameterReplacer)
+     */
+    public String expand(@NonNull Map<S, String> substitutions) {
+        return expand((ParameterReplacer<S>) substitutions::get);
+    }
+
+    /**
+     * Converts the parameterized URI template to a URI template string by replacing all substitution variables
+     * <p>
+     * The replacer is called once for every substitution variable that is used in the template, but replaced values
+     * are only encoded and combined into a template when that combination of values was not expanded before.
+     *
+     * @param replacer Replacer that will be used to fill in the substitution variables
+     * @return An RFC6570 URI template
+     * @throws IllegalArgumentException When the replacer returns {@literal null} for a substitution variable used in the
+     * template
+     * @see ParameterizedUriTemplate#expand(ParameterReplacer)
+     */
+    public String expand(@NonNull ParameterReplacer<S> replacer) {
+        if (substitutionVariables.length == 0) {
+            return template.toTemplate();
+        }
+
+        var values = new String[substitutionVariables.length];
+        for (int i = 0; i < substitutionVariables.length; i++) {
+            var value = replacer.replace(substitutionVariables[i]);
+            if (value == null) {
+                throw new IllegalArgumentException(
+                        "No value for substitution variable '%s'".formatted(substitutionVariables[i].getName()));
+            }
+            values[i] = value;
+        }
+
+        var key = Arrays.asList(values);
+        var cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        var expanded = template.expand(variable -> values[indexOf(variable)]);
+        return cache.put(key, expanded);
+    }
+
+    private int indexOf(S variable) {
+        for (int i = 0; i < substitutionVariables.length; i++) {
+            if (substitutionVariables[i] == variable) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Substitution variable '%s' is not used in the template".formatted(variable.getName()));
+    }
+
+    /**
+     * @return The template that is expanded
+     */
+    public ParameterizedUriTemplate<S> getTemplate() {
+        return template;
+    }
+
+    /**
+     * @return Statistics of the cache of expanded templates
+     */
+    public CacheStatistics getCacheStatistics() {
+        return cache.statistics();
+    }
+}
@@ -1,16 +1,22 @@
 package com.contentgrid.hateoas.uritemplate;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import lombok.EqualsAndHashCode;
+import lombok.EqualsAndHashCode.CacheStrategy;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
@@ -30,7 +36,7 @@ import lombok.experimental.NonFinal;
  * @see ParameterizedUriTemplateParser for creating this object from a string
  * @param <S> The enum type that contains the supported substitution variables
  */
-@EqualsAndHashCode
+@EqualsAndHashCode(cacheStrategy = CacheStrategy.LAZY)
 public class ParameterizedUriTemplate<S extends Enum<S> & SubstitutionVariableDefinition> {
 
     sealed interface UriTemplatePart<S extends Enum<S> & SubstitutionVariableDefinition> {
@@ -38,6 +44,16 @@ public class ParameterizedUriTemplate<S extends Enum<S> & SubstitutionVariableDe
         String toTemplate();
 
         String expand(ParameterReplacer<S> replacer);
+
+        /**
+         * Appends the fully expanded URI for this part
+         *
+         * @param out Destination to write the expanded URI to
+         * @param replacer Replacer that will be used to fill in the substitution variables
+         * @param variables Values for the URI template variables
+         * @throws IOException When writing to the destination fails
+         */
+        void expandUri(Appendable out, ParameterReplacer<S> replacer, Map<String, ?> variables) throws IOException;
     }
 
     /**
@@ -46,6 +62,7 @@ public class ParameterizedUriTemplate<S extends Enum<S> & SubstitutionVariableDe
      * @see <a href="https://www.rfc-editor.org/rfc/rfc6570#section-2.1">RFC6570 Section 2.1</a>
      */
     @Value
+    @EqualsAndHashCode(cacheStrategy = CacheStrategy.LAZY)
     static class LiteralUriTemplatePart<S extends Enum<S> & SubstitutionVariableDefinition> implements
             UriTemplatePart<S> {
 
@@ -61,6 +78,13 @@ public class ParameterizedUriTemplate<S extends Enum<S> & SubstitutionVariableDe
         public String expand(ParameterReplacer<S> replacer) {
             return value;
         }
+
+        @Override
+        public void expandUri(Appendable out, ParameterReplacer<S> replacer, Map<String, ?> variables)
+                throws IOException {
+            // RFC6570 Section 3.1: literal expansion
+            UriEncoder.encode(value, true, out);
+        }
     }
 
     /**
@@ -69,6 +93,7 @@ public class ParameterizedUriTemplate<S extends Enum<S> & SubstitutionVariableDe
      * @see <a href="https://www.rfc-editor.org/rfc/rfc6570#section-2.2">RFC6570 Section 2.2</a>
      */
     @Value
+    @EqualsAndHashCode(cacheStrategy = CacheStrategy.LAZY)
     @RequiredArgsConstructor
     static class ExpressionUriTemplatePart<S extends Enum<S> & SubstitutionVariableDefinition> implements
             UriTemplatePart<S> {
@@ -104,25 +129,338 @@ public class ParameterizedUriTemplate<S extends Enum<S> & SubstitutionVariableDe
             return toTemplate();
         }
 
+        /**
+         * Expands the expression with the given variable values
+         *
+         * @see <a href="https://www.rfc-editor.org/rfc/rfc6570#section-3.2">RFC6570 Section 3.2</a>
+         */
+        @Override
+        public void expandUri(Appendable out, ParameterReplacer<S> replacer, Map<String, ?> values)
+                throws IOException {
+            boolean isFirst = true;
+            for (var variable : variables) {
+                var value = values.get(variable.variable);
+                if (isUndefined(value)) {
+                    continue;
+                }
+
+                out.append(isFirst ? operator.first : operator.separator);
+                isFirst = false;
+
+                if (value instanceof Map<?, ?> map) {
+                    expandMap(out, variable, map);
+                } else if (value instanceof Collection<?> list) {
+                    expandList(out, variable, list);
+                } else if (value instanceof Object[] array) {
+                    expandList(out, variable, Arrays.asList(array));
+                } else {
+                    expandString(out, variable, value.toString());
+                }
+            }
+        }
+
+        void accept(UriTemplatePartVisitor visitor) {
+            visitor.visitExpressionVariables(operator.operator, variables);
+        }
+
+        /**
+         * Expands the variables that have a value, and keeps the remaining variables as an expression
+         * <p>
+         * Only a leading run of variables can be expanded when the expression also keeps variables: the remaining
+         * expression has to continue the expansion, which is not possible for simple, reserved and fragment expansion.
+         *
+         * @param values Values for the URI template variables to expand, by variable name. A variable that is present
+         * with a {@code null} value is expanded as undefined.
+         * @return The parts that replace this expression
+         * @throws IllegalArgumentException When the variables with a value can not be expanded separately
+         */
+        List<UriTemplatePart<S>> bind(Map<String, ?> values) {
+            int bound = 0;
+            while (bound < variables.size() && values.containsKey(variables.get(bound).variable)) {
+                bound++;
+            }
+            for (int i = bound; i < variables.size(); i++) {
+                if (values.containsKey(variables.get(i).variable)) {
+                    throw new IllegalArgumentException(
+                            "Variable '%s' can only be bound together with all preceding variables of %s"
+                                    .formatted(variables.get(i).variable, toTemplate()));
+                }
+            }
+
+            if (bound == 0) {
+                return List.of(this);
+            }
+
+            if (bound == variables.size()) {
+                return List.of(new LiteralUriTemplatePart<>(expandToString(values)));
+            }
+
+            var expanded = new ExpressionUriTemplatePart<S>(operator, variables.subList(0, bound))
+                    .expandToString(values);
+            var remainingOperator = expanded.isEmpty() ? operator : operator.continuation();
+            if (remainingOperator == null) {
+                throw new IllegalArgumentException("Variables of %s can only be bound all at once".formatted(toTemplate()));
+            }
+            return List.of(
+                    new LiteralUriTemplatePart<>(expanded),
+                    new ExpressionUriTemplatePart<>(remainingOperator, List.copyOf(variables.subList(bound, variables.size())))
+            );
+        }
+
+        private String expandToString(Map<String, ?> values) {
+            var sb = new StringBuilder();
+            try {
+                expandUri(sb, null, values);
+            } catch (IOException e) {
+                // StringBuilder does not throw
+                throw new UncheckedIOException(e);
+            }
+            return sb.toString();
+        }
+
+        // RFC6570 Section 2.3: a variable with an undefined value, an empty list or an empty map is ignored
+        private static boolean isUndefined(Object value) {
+            if (value == null) {
+                return true;
+            } else if (value instanceof Map<?, ?> map) {
+                return map.isEmpty();
+            } else if (value instanceof Collection<?> list) {
+                return list.isEmpty();
+            } else if (value instanceof Object[] array) {
+                return array.length == 0;
+            }
+            return false;
+        }
+
+        private void expandString(Appendable out, VariableDefinition variable, String value) throws IOException {
+            if (operator.named) {
+                appendName(out, variable.variable, value.isEmpty());
+            }
+            if (variable.maxLength != null && variable.maxLength < value.length()) {
+                int codePoints = value.codePointCount(0, value.length());
+                if (variable.maxLength < codePoints) {
+                    value = value.substring(0, value.offsetByCodePoints(0, variable.maxLength));
+                }
+            }
+            UriEncoder.encode(value, operator.allowReserved, out);
+        }
+
+        private void expandList(Appendable out, VariableDefinition variable, Collection<?> list) throws IOException {
+            if (!variable.explode) {
+                if (operator.named) {
+                    appendName(out, variable.variable, false);
+                }
+                boolean isFirst = true;
+                for (var item : list) {
+                    if (!isFirst) {
+                        out.append(',');
+                    }
+                    isFirst = false;
+                    UriEncoder.encode(String.valueOf(item), operator.allowReserved, out);
+                }
+                return;
+            }
+
+            boolean isFirst = true;
+            for (var item : list) {
+                if (!isFirst) {
+                    out.append(operator.separator);
+                }
+                isFirst = false;
+                var itemValue = String.valueOf(item);
+                if (operator.named) {
+                    appendName(out, variable.variable, itemValue.isEmpty());
+                }
+                UriEncoder.encode(itemValue, operator.allowReserved, out);
+            }
+        }
+
+        private void expandMap(Appendable out, VariableDefinition variable, Map<?, ?> map) throws IOException {
+            if (!variable.explode) {
+                if (operator.named) {
+                    appendName(out, variable.variable, false);
+                }
+                boolean isFirst = true;
+                for (var entry : map.entrySet()) {
+                    if (!isFirst) {
+                        out.append(',');
+                    }
+                    isFirst = false;
+                    UriEncoder.encode(String.valueOf(entry.getKey()), operator.allowReserved, out);
+                    out.append(',');
+                    UriEncoder.encode(String.valueOf(entry.getValue()), operator.allowReserved, out);
+                }
+                return;
+            }
+
+            boolean isFirst = true;
+            for (var entry : map.entrySet()) {
+                if (!isFirst) {
+                    out.append(operator.separator);
+                }
+                isFirst = false;
+                var entryValue = String.valueOf(entry.getValue());
+                UriEncoder.encode(String.valueOf(entry.getKey()), operator.allowReserved, out);
+                if (operator.named && entryValue.isEmpty()) {
+                    out.append(operator.ifEmpty);
+                } else {
+                    out.append('=');
+                }
+                UriEncoder.encode(entryValue, operator.allowReserved, out);
+            }
+        }
+
+        private void appendName(Appendable out, String name, boolean emptyValue) throws IOException {
+            out.append(name);
+            out.append(emptyValue ? operator.ifEmpty : "=");
+        }
+
+        /**
+         * Finds where the expansion of this expression ends in a URI
+         *
+         * @param uri The expanded URI
+         * @param start Position in the URI where the expansion of this expression starts
+         * @param nextLiteral The literal that follows this expression in the template
+         * @return The position in the URI where the expansion of this expression ends
+         */
+        int matchEnd(String uri, int start, String nextLiteral) {
+            if (!uri.startsWith(operator.first, start)) {
+                // All variables were undefined, so nothing was expanded
+                return start;
+            }
+            return ParameterizedUriTemplateMatcher.scan(uri, start + operator.first.length(), nextLiteral,
+                    operator.allowReserved, operator.separator.charAt(0));
+        }
+
+        /**
+         * Extracts the variable values from the expansion of this expression
+         * <p>
+         * The items of an exploded list are joined with commas, like the expansion of a list that is not exploded:
+         * values of named variables that occur multiple times are joined, and the last variable of an unnamed
+         * expression receives all remaining items. Any other unnamed variable receives a single item.
+         * <p>
+         * The values of unnamed variables are assigned by position. Undefined variables are omitted from an expansion,
+         * so when some of the variables of an unnamed expression were undefined, the values are assigned to the first
+         * variables of the expression instead.
+         *
+         * @param uri The expanded URI
+         * @param start Position in the URI where the expansion of this expression starts
+         * @param end Position in the URI where the expansion of this expression ends
+         * @param values Map to add the variable values to
+         */
+        void matchVariables(String uri, int start, int end, Map<String, String> values) {
+            if (start == end) {
+                return;
+            }
+            int position = start + operator.first.length();
+            char separator = operator.separator.charAt(0);
+
+            if (operator.named) {
+                while (position <= end) {
+                    int itemEnd = indexOf(uri, separator, position, end);
+                    int nameEnd = indexOf(uri, '=', position, itemEnd);
+                    var name = uri.substring(position, nameEnd);
+                    if (hasVariable(name)) {
+                        var value = nameEnd == itemEnd ? "" : decode(uri, nameEnd + 1, itemEnd);
+                        values.merge(name, value, (previous, next) -> previous + "," + next);
+                    }
+                    position = itemEnd + 1;
+                }
+            } else {
+                for (int i = 0; i < variables.size() && position <= end; i++) {
+                    var variable = variables.get(i);
+                    if (i == variables.size() - 1) {
+                        values.put(variable.variable, variable.explode
+                                ? decodeItems(uri, position, end, separator)
+                                : decode(uri, position, end));
+                        break;
+                    }
+                    int itemEnd = indexOf(uri, separator, position, end);
+                    values.put(variable.variable, decode(uri, position, itemEnd));
+                    position = itemEnd + 1;
+                }
+            }
+        }
+
+        private boolean hasVariable(String name) {
+            for (var variable : variables) {
+                if (variable.variable.equals(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private String decodeItems(String uri, int start, int end, char separator) {
+            var sb = new StringBuilder(end - start);
+            int position = start;
+            while (position <= end) {
+                int itemEnd = indexOf(uri, separator, position, end);
+                if (position > start) {
+                    sb.append(',');
+                }
+                sb.append(decode(uri, position, itemEnd));
+                position = itemEnd + 1;
+            }
+            return sb.toString();
+        }
+
+        private String decode(String uri, int start, int end) {
+            // Reserved expansion passes pct-encoded triplets through, so they were already present in the value
+            return operator.allowReserved ? uri.substring(start, end) : UriEncoder.decode(uri, start, end);
+        }
+
+        private static int indexOf(String uri, char c, int start, int end) {
+            int index = uri.indexOf(c, start);
+            return index < 0 || index > end ? end : index;
+        }
+
         /**
          * Operator used for template expressions
          *
          * @see <a href="https://www.rfc-editor.org/rfc/rfc6570#section-2.2">RFC6570 Section 2.2</a>
+         * @see <a href="https://www.rfc-editor.org/rfc/rfc6570#appendix-A">RFC6570 Appendix A</a> for the expansion
+         * behavior of each operator
          */
         @RequiredArgsConstructor
         enum Operator {
-            SIMPLE(""),
-            RESERVED("+"),
-            FRAGMENT("#"),
-            LABEL_DOT_PREFIX("."),
-            PATH_SEGMENT("/"),
-            PATH_STYLE_PARAM(";"),
-            FORM_STYLE_PARAM("?"),
-            FORM_STYLE_CONTINUATION("&"),
+            SIMPLE("", "", ",", false, "", false),
+            RESERVED("+", "", ",", false, "", true),
+            FRAGMENT("#", "#", ",", false, "", true),
+            LABEL_DOT_PREFIX(".", ".", ".", false, "", false),
+            PATH_SEGMENT("/", "/", "/", false, "", false),
+            PATH_STYLE_PARAM(";", ";", ";", true, "", false),
+            FORM_STYLE_PARAM("?", "?", "&", true, "=", false),
+            FORM_STYLE_CONTINUATION("&", "&", "&", true, "=", false),
             ;
 
             private final String operator;
 
+            /**
+             * Prefix that is added before the first defined variable in the expression
+             */
+            private final String first;
+
+            /**
+             * Separator that is added between defined variables in the expression
+             */
+            private final String separator;
+
+            /**
+             * Whether variables are expanded as name=value pairs
+             */
+            private final boolean named;
+
+            /**
+             * Suffix that is added to the name of a named variable when its value is empty
+             */
+            private final String ifEmpty;
+
+            /**
+             * Whether reserved characters are allowed in the expanded value without being pct-encoded
+             */
+            private final boolean allowReserved;
+
             private static final Map<String, Operator> LOOKUP;
 
             static {
@@ -137,12 +475,24 @@ public class ParameterizedUriTemplate<S extends Enum<S> & SubstitutionVariableDe
                 return LOOKUP.get(operatorStr);
             }
 
+            /**
+             * @return The operator that continues an expansion with this operator after one or more variables were
+             * expanded, or {@code null} when such an expansion can not be continued by a separate expression
+             */
+            Operator continuation() {
+                return switch (this) {
+                    case FORM_STYLE_PARAM -> FORM_STYLE_CONTINUATION;
+                    case LABEL_DOT_PREFIX, PATH_SEGMENT, PATH_STYLE_PARAM, FORM_STYLE_CONTINUATION -> this;
+                    case SIMPLE, RESERVED, FRAGMENT -> null;
+                };
+            }
+
 
         }
 
         @Value
         @RequiredArgsConstructor
-        static class VariableDefinition {
+        static class VariableDefinition implements UriTemplateVariable {
 
             String variable;
 
@@ -154,6 +504,18 @@ public class ParameterizedUriTemplate<S extends Enum<S> & SubstitutionVariableDe
                 this(variable, null, false);
             }
 
+            @Override
+            public String getName() {
+                return variable;
+            }
+
+            @Override
+            public String toSpecification() {
+                var sb = new StringBuilder();
+                appendTo(sb);
+                return sb.toString();
+            }
+
             public void appendTo(StringBuilder stringBuilder) {
                 stringBuilder.append(variable);
                 if (maxLength != null) {
@@ -167,6 +529,7 @@ public class ParameterizedUriTemplate<S extends Enum<S> & SubstitutionVariableDe
     }
 
     @Value
+    @EqualsAndHashCode(cacheStrategy = CacheStrategy.LAZY)
     static class SubstitutionUriTemplatePart<S extends Enum<S> & SubstitutionVariableDefinition> implements
             UriTemplatePart<S> {
 
@@ -179,14 +542,123 @@ public class ParameterizedUriTemplate<S extends Enum<S> & SubstitutionVariableDe
 
         @Override
         public String expand(ParameterReplacer<S> replacer) {
-            return URLEncoder.encode(replacer.replace(variable), StandardCharsets.UTF_8);
+            return encode(replacer.replace(variable));
+        }
+
+        @Override
+        public void expandUri(Appendable out, ParameterReplacer<S> replacer, Map<String, ?> variables)
+                throws IOException {
+            UriEncoder.encode(replacer.replace(variable), false, out);
+        }
+
+        /**
+         * Percent-encodes a substitution value, so it can be safely placed anywhere in a URI template
+         * <p>
+         * All characters except RFC3986 unreserved characters are encoded; a space is encoded as <code>%20</code>.
+         */
+        static String encode(String value) {
+            return UriEncoder.encode(value);
+        }
+
+        /**
+         * Finds where the replaced value of this substitution variable ends in a URI
+         *
+         * @param uri The expanded URI
+         * @param start Position in the URI where the value starts
+         * @param nextLiteral The literal that follows this substitution variable in the template
+         * @return The position in the URI where the value ends
+         */
+        int matchEnd(String uri, int start, String nextLiteral) {
+            return ParameterizedUriTemplateMatcher.scan(uri, start, nextLiteral, false, '\0');
+        }
+    }
+
+    /**
+     * A template of which all parts that do not depend on URI template variables have been expanded, for one replacer
+     * <p>
+     * Literals are expanded and substitution variables are replaced and encoded once, and consecutive expanded parts
+     * are merged into a single constant segment. Expanding the template for a set of URI template variables then only
+     * has to expand the expressions in between. There are {@code n} expressions and always {@code n + 1} constant
+     * segments (which can be empty).
+     */
+    private static final class ResolvedUriTemplate<S extends Enum<S> & SubstitutionVariableDefinition> {
+
+        private final String[] constants;
+
+        private final List<ExpressionUriTemplatePart<S>> expressions;
+
+        ResolvedUriTemplate(List<UriTemplatePart<S>> parts, ParameterReplacer<S> replacer) {
+            List<String> constantSegments = new ArrayList<>();
+            List<ExpressionUriTemplatePart<S>> expressionParts = new ArrayList<>();
+
+            var segment = new StringBuilder();
+            for (var part : parts) {
+                if (part instanceof ExpressionUriTemplatePart<S> expression) {
+                    constantSegments.add(segment.toString());
+                    expressionParts.add(expression);
+                    segment.setLength(0);
+                } else {
+                    try {
+                        part.expandUri(segment, replacer, Map.of());
+                    } catch (IOException e) {
+                        // StringBuilder does not throw
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+            constantSegments.add(segment.toString());
+
+            this.constants = constantSegments.toArray(String[]::new);
+            this.expressions = expressionParts;
+        }
+
+        void expandTo(Appendable out, Map<String, ?> variables) throws IOException {
+            out.append(constants[0]);
+            for (int i = 0; i < expressions.size(); i++) {
+                expressions.get(i).expandUri(out, null, variables);
+                out.append(constants[i + 1]);
+            }
         }
     }
 
     private final List<UriTemplatePart<S>> parts;
 
+    @EqualsAndHashCode.Exclude
+    private final CompiledUriTemplate<S> compiled;
+
+    @EqualsAndHashCode.Exclude
+    private volatile ParameterizedUriTemplateMatcher<S> matcher;
+
+    @EqualsAndHashCode.Exclude
+    private volatile Collection<S> substitutionVariables;
+
     ParameterizedUriTemplate(List<UriTemplatePart<S>> parts) {
+        this(parts, UnaryOperator.identity());
+    }
+
+    /**
+     * @param parts The parts of the template
+     * @param strings Returns the instance to use for a string of the expansion plan, so equal strings can be shared
+     */
+    ParameterizedUriTemplate(List<UriTemplatePart<S>> parts, UnaryOperator<String> strings) {
         this.parts = List.copyOf(parts);
+        this.compiled = new CompiledUriTemplate<>(this.parts, strings);
+    }
+
+    List<UriTemplatePart<S>> getParts() {
+        return parts;
+    }
+
+    /**
+     * Creates a builder for a parameterized URI template, to create a template from its parts without parsing
+     *
+     * @param substitutionType The enum type that contains the supported substitution variables
+     * @return A builder for a parameterized URI template
+     * @see ParameterizedUriTemplateParser for creating a template from a string
+     */
+    public static <S extends Enum<S> & SubstitutionVariableDefinition> ParameterizedUriTemplateBuilder<S> builder(
+            @NonNull Class<S> substitutionType) {
+        return new ParameterizedUriTemplateBuilder<>(substitutionType);
     }
 
     /**
@@ -194,7 +666,7 @@ public class ParameterizedUriTemplate<S extends Enum<S> & SubstitutionVariableDe
      * @return The template string that is represented by this object
      */
     public String toTemplate() {
-        return parts.stream().map(UriTemplatePart::toTemplate).collect(Collectors.joining());
+        return compiled.toTemplate();
     }
 
     /**
@@ -203,9 +675,260 @@ public class ParameterizedUriTemplate<S extends Enum<S> & SubstitutionVariableDe
      * @return An RFC6570 URI template
      */
     public String expand(@NonNull ParameterReplacer<S> replacer) {
-        return parts.stream()
-                .map(part -> part.expand(replacer))
-                .collect(Collectors.joining());
+        return compiled.expand(replacer);
+    }
+
+    /**
+     * Expands the parameterized URI template to a URI, by replacing all substitution variables and expanding all URI
+     * template expressions.
+     * <p>
+     * Values for URI template variables can be any of:
+     * <ul>
+     *     <li>{@code null}: the variable is undefined, and is omitted from the expansion</li>
+     *     <li>a {@link Map}: an associative array of name/value pairs</li>
+     *     <li>a {@link Collection} or an array: a list of values</li>
+     *     <li>any other object: a string value, obtained from {@link Object#toString()}</li>
+     * </ul>
+     *
+     * @param replacer Replacer that will be used to fill in the substitution variables
+     * @param variables Values for the URI template variables, by variable name
+     * @return The expanded URI
+     * @see <a href="https://www.rfc-editor.org/rfc/rfc6570#section-3">RFC6570 Section 3</a>
+     */
+    public String expand(@NonNull ParameterReplacer<S> replacer, @NonNull Map<String, ?> variables) {
+        var sb = new StringBuilder(compiled.estimatedLength());
+        try {
+            expandUriTo(sb, replacer, variables);
+        } catch (IOException e) {
+            // StringBuilder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes the parameterized URI template as a URI template string by replacing all substitution variables
+     *
+     * @param out Destination for the RFC6570 URI template
+     * @param replacer Replacer that will be used to fill in the substitution variables
+     * @throws IOException When writing to the destination fails
+     * @see #expand(ParameterReplacer)
+     */
+    public void expandTo(@NonNull Appendable out, @NonNull ParameterReplacer<S> replacer) throws IOException {
+        compiled.expandTo(out, replacer);
+    }
+
+    /**
+     * Writes the URI obtained by replacing all substitution variables and expanding all URI template expressions
+     * <p>
+     * Literals and encoded values are written to the destination as they are expanded, without buffering the URI.
+     *
+     * @param out Destination for the expanded URI
+     * @param replacer Replacer that will be used to fill in the substitution variables
+     * @param variables Values for the URI template variables, by variable name
+     * @throws IOException When writing to the destination fails
+     * @see #expand(ParameterReplacer, Map)
+     */
+    public void expandTo(@NonNull Appendable out, @NonNull ParameterReplacer<S> replacer,
+            @NonNull Map<String, ?> variables) throws IOException {
+        expandUriTo(out, replacer, variables);
+    }
+
+    private void expandUriTo(Appendable out, ParameterReplacer<S> replacer, Map<String, ?> variables)
+            throws IOException {
+        for (var part : parts) {
+            part.expandUri(out, replacer, variables);
+        }
+    }
+
+    /**
+     * Expands the parameterized URI template to a URI template string for every replacer.
+     * <p>
+     * All expansions are written into one shared buffer, which is handed to the consumer after every expansion. The
+     * {@link CharSequence} passed to the consumer is only valid for the duration of the call; it must be copied (e.g.
+     * with {@link Object#toString()}) or written out before returning.
+     *
+     * @param replacers Replacers that will be used to fill in the substitution variables, one for every expansion
+     * @param consumer Receives every expanded RFC6570 URI template, in the order of the replacers
+     * @see #expand(ParameterReplacer)
+     */
+    public void expandEach(@NonNull Iterable<? extends ParameterReplacer<S>> replacers,
+            @NonNull Consumer<? super CharSequence> consumer) {
+        var sb = new StringBuilder(compiled.estimatedLength());
+        for (var replacer : replacers) {
+            sb.setLength(0);
+            compiled.expandTo(sb, replacer);
+            consumer.accept(sb);
+        }
+    }
+
+    /**
+     * Expands the parameterized URI template to a URI for every set of URI template variables.
+     * <p>
+     * All expansions are written into one shared buffer, which is handed to the consumer after every expansion. The
+     * {@link CharSequence} passed to the consumer is only valid for the duration of the call; it must be copied (e.g.
+     * with {@link Object#toString()}) or written out before returning.
+     *
+     * @param replacer Replacer that will be used to fill in the substitution variables
+     * @param rows Values for the URI template variables, one map for every expansion
+     * @param consumer Receives every expanded URI, in the order of the rows
+     * @see #expand(ParameterReplacer, Map)
+     */
+    public void expandEach(@NonNull ParameterReplacer<S> replacer, @NonNull Iterable<? extends Map<String, ?>> rows,
+            @NonNull Consumer<? super CharSequence> consumer) {
+        // The substitution values are the same for every row, so they are only replaced and encoded once
+        var resolved = new ResolvedUriTemplate<>(parts, replacer);
+        var sb = new StringBuilder(compiled.estimatedLength());
+        try {
+            for (var variables : rows) {
+                sb.setLength(0);
+                resolved.expandTo(sb, variables);
+                consumer.accept(sb);
+            }
+        } catch (IOException e) {
+            // StringBuilder does not throw
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Expands the parameterized URI template to a URI template string for every replacer
+     *
+     * @param replacers Replacers that will be used to fill in the substitution variables, one for every expansion
+     * @return The expanded RFC6570 URI templates, in the order of the replacers
+     * @see #expandEach(Iterable, Consumer) to process expansions without creating a string for each of them
+     */
+    public List<String> expandAll(@NonNull Collection<? extends ParameterReplacer<S>> replacers) {
+        List<String> expanded = new ArrayList<>(replacers.size());
+        expandEach(replacers, sequence -> expanded.add(sequence.toString()));
+        return expanded;
+    }
+
+    /**
+     * Creates an expander that remembers the expanded template for every distinct set of substitution values
+     *
+     * @param maximumSize The maximum number of expanded templates to remember
+     * @return A memoizing expander for this template
+     */
+    public MemoizingUriTemplateExpander<S> memoizing(int maximumSize) {
+        return new MemoizingUriTemplateExpander<>(this, maximumSize);
+    }
+
+    /**
+     * Reports all parts of this template to a visitor, in the order they are present in the template
+     *
+     * @param visitor Visitor that receives all parts of the template
+     */
+    public void accept(@NonNull UriTemplatePartVisitor visitor) {
+        for (var part : parts) {
+            if (part instanceof LiteralUriTemplatePart<S> literal) {
+                visitor.visitLiteral(literal.getValue());
+            } else if (part instanceof SubstitutionUriTemplatePart<S> substitution) {
+                visitor.visitSubstitution(substitution.getVariable().getName());
+            } else if (part instanceof ExpressionUriTemplatePart<S> expression) {
+                expression.accept(visitor);
+            }
+        }
+    }
+
+    /**
+     * Creates a template that consists of this template, followed by another template
+     * <p>
+     * The parts of both templates are reused, so the resulting template is equal to parsing the concatenated template
+     * strings, without parsing anything.
+     *
+     * @param other The template to append
+     * @return The combined template
+     * @throws IllegalArgumentException When this template ends with a <code>%</code> and the other template starts with
+     * an expression, which would turn the expression into a substitution variable
+     */
+    public ParameterizedUriTemplate<S> append(@NonNull ParameterizedUriTemplate<S> other) {
+        if (parts.get(parts.size() - 1) instanceof LiteralUriTemplatePart<S> literal && literal.getValue().endsWith("%")
+                && other.parts.get(0) instanceof ExpressionUriTemplatePart<S>) {
+            throw new IllegalArgumentException("Can not append '%s' to '%s'".formatted(other.toTemplate(), toTemplate()));
+        }
+
+        List<UriTemplatePart<S>> combined = new ArrayList<>(parts.size() + other.parts.size());
+        combined.addAll(parts);
+        combined.addAll(other.parts);
+        return new ParameterizedUriTemplate<>(mergeLiterals(combined));
+    }
+
+    /**
+     * Creates a template where some URI template variables are expanded, and the other variables are kept
+     * <p>
+     * For example, binding <code>entity</code> in <code>/%{application.id}{/entity}{?page,size}</code> results in
+     * <code>/%{application.id}/persons{?page,size}</code>. Substitution variables are kept as well.
+     * <p>
+     * When an expression also keeps some of its variables, only its leading variables can be bound: binding
+     * <code>page</code> in <code>{?page,size}</code> results in <code>?page=1{&amp;size}</code>. Simple, reserved and
+     * fragment expressions can only be bound as a whole.
+     *
+     * @param variables Values for the URI template variables to expand, by variable name
+     * @return The partially expanded template
+     * @throws IllegalArgumentException When some variables of an expression can not be expanded separately
+     * @see #expand(ParameterReplacer, Map) for the supported values
+     */
+    public ParameterizedUriTemplate<S> bind(@NonNull Map<String, ?> variables) {
+        List<UriTemplatePart<S>> bound = new ArrayList<>(parts.size() + 1);
+        for (var part : parts) {
+            if (part instanceof ExpressionUriTemplatePart<S> expression) {
+                bound.addAll(expression.bind(variables));
+            } else {
+                bound.add(part);
+            }
+        }
+        return new ParameterizedUriTemplate<>(mergeLiterals(bound));
+    }
+
+    /**
+     * Merges adjacent literal parts and removes empty literal parts, like the parser produces them
+     */
+    private static <S extends Enum<S> & SubstitutionVariableDefinition> List<UriTemplatePart<S>> mergeLiterals(
+            List<UriTemplatePart<S>> parts) {
+        List<UriTemplatePart<S>> merged = new ArrayList<>(parts.size());
+        for (var part : parts) {
+            if (part instanceof LiteralUriTemplatePart<S> literal) {
+                if (literal.getValue().isEmpty()) {
+                    continue;
+                }
+                if (!merged.isEmpty() && merged.get(merged.size() - 1) instanceof LiteralUriTemplatePart<S> previous) {
+                    part = new LiteralUriTemplatePart<>(previous.getValue() + literal.getValue());
+                    merged.remove(merged.size() - 1);
+                }
+            }
+            merged.add(part);
+        }
+        if (merged.isEmpty()) {
+            merged.add(new LiteralUriTemplatePart<>(""));
+        }
+        return merged;
+    }
+
+    /**
+     * Matches a URI that was expanded from this template, extracting the values of the substitution variables and the
+     * URI template variables.
+     * <p>
+     * Matching is a single scan over the URI, driven by the literal parts of the template: every substitution variable
+     * or expression extends up to the next literal, or up to the first character that can not be part of its
+     * expansion. Values are pct-decoded, except for reserved ({@code +}) and fragment ({@code #}) expressions, which
+     * return the value exactly as it is present in the URI.
+     * <p>
+     * Lists are returned as a single string, with the items joined with commas, for exploded and non-exploded variables
+     * alike. Values of variables in an unnamed expression (all operators except {@code ;}, {@code ?} and {@code &}) are
+     * assigned by position: when some of those variables were undefined during expansion, the values that are present
+     * end up in the first variables of the expression.
+     *
+     * @param uri The URI to match
+     * @return The extracted values, or empty when the URI does not match this template
+     */
+    public Optional<UriTemplateMatch<S>> match(@NonNull String uri) {
+        var currentMatcher = matcher;
+        if (currentMatcher == null) {
+            currentMatcher = new ParameterizedUriTemplateMatcher<>(parts);
+            matcher = currentMatcher;
+        }
+        return currentMatcher.match(uri);
     }
 
     public Collection<String> getTemplateVariables() {
@@ -222,16 +945,24 @@ public class ParameterizedUriTemplate<S extends Enum<S> & SubstitutionVariableDe
         return variables;
     }
 
+    /**
+     * @return The distinct substitution variables of this template, in the order they first occur in the template
+     */
     public Collection<S> getSubstitutionVariables() {
-        Set<S> variables = new HashSet<>();
+        var result = substitutionVariables;
+        if (result == null) {
+            Set<S> variables = new LinkedHashSet<>();
 
-        for (var part : parts) {
-            if (part instanceof SubstitutionUriTemplatePart<?> substitutionUriTemplatePart) {
-                variables.add((S) substitutionUriTemplatePart.variable);
+            for (var part : parts) {
+                if (part instanceof SubstitutionUriTemplatePart<?> substitutionUriTemplatePart) {
+                    variables.add((S) substitutionUriTemplatePart.variable);
+                }
             }
-        }
 
-        return Collections.unmodifiableCollection(variables);
+            result = Collections.unmodifiableCollection(variables);
+            substitutionVariables = result;
+        }
+        return result;
     }
 
 }
@@ -0,0 +1,126 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.ExpressionUriTemplatePart;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.ExpressionUriTemplatePart.Operator;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.ExpressionUriTemplatePart.VariableDefinition;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.LiteralUriTemplatePart;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.SubstitutionUriTemplatePart;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.UriTemplatePart;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+
+/**
+ * Builds a {@link ParameterizedUriTemplate} from its parts, without parsing a template string
+ * <p>
+ * This is mainly used by code that is generated from {@link PrecompiledUriTemplate} constants, so templates are
+ * only validated once, at build time.
+ *
+ * @param <S> The enum type that contains the supported substitution variables
+ * @see ParameterizedUriTemplate#builder(Class) for creating this object
+ */
+public final class ParameterizedUriTemplateBuilder<S extends Enum<S> & SubstitutionVariableDefinition> {
+
+    private final Map<String, S> substitutionVariables;
+
+    private final List<UriTemplatePart<S>> parts = new ArrayList<>();
+
+    ParameterizedUriTemplateBuilder(Class<S> substitutionType) {
+        var constants = substitutionType.getEnumConstants();
+        this.substitutionVariables = new HashMap<>(constants.length);
+        for (var constant : constants) {
+            substitutionVariables.put(constant.getName(), constant);
+        }
+    }
+
+    /**
+     * Adds a literal part
+     *
+     * @param value The literal value, as it is present in the template string
+     * @return This builder
+     */
+    public ParameterizedUriTemplateBuilder<S> literal(@NonNull String value) {
+        parts.add(new LiteralUriTemplatePart<>(value));
+        return this;
+    }
+
+    /**
+     * Adds a substitution variable
+     *
+     * @param variable The substitution variable
+     * @return This builder
+     */
+    public ParameterizedUriTemplateBuilder<S> substitution(@NonNull S variable) {
+        parts.add(new SubstitutionUriTemplatePart<>(variable));
+        return this;
+    }
+
+    /**
+     * Adds a substitution variable by its name
+     *
+     * @param name The name of the substitution variable, as returned by {@link SubstitutionVariableDefinition#getName()}
+     * @return This builder
+     * @throws IllegalArgumentException When there is no substitution variable with this name
+     */
+    public ParameterizedUriTemplateBuilder<S> substitution(@NonNull String name) {
+        var variable = substitutionVariables.get(name);
+        if (variable == null) {
+            throw new IllegalArgumentException("Unknown substitution variable '%s'".formatted(name));
+        }
+        return substitution(variable);
+    }
+
+    /**
+     * Adds a URI template expression
+     *
+     * @param operator The expression operator (e.g. <code>?</code>), or an empty string for simple expansion
+     * @param variables The variable specifications of the expression (e.g. <code>page</code>, <code>list*</code>
+     * or <code>var:3</code>)
+     * @return This builder
+     * @throws IllegalArgumentException When the operator or a variable specification is invalid
+     */
+    public ParameterizedUriTemplateBuilder<S> expression(@NonNull String operator, @NonNull String... variables) {
+        var parsedOperator = Operator.forString(operator);
+        if (parsedOperator == null) {
+            throw new IllegalArgumentException("Unsupported operator '%s'".formatted(operator));
+        }
+        if (variables.length == 0) {
+            throw new IllegalArgumentException("Expression must have at least one variable");
+        }
+
+        List<VariableDefinition> definitions = new ArrayList<>(variables.length);
+        for (var variable : variables) {
+            definitions.add(variableDefinition(variable));
+        }
+        parts.add(new ExpressionUriTemplatePart<>(parsedOperator, definitions));
+        return this;
+    }
+
+    /**
+     * @return The parameterized URI template that consists of all parts added to this builder
+     */
+    public ParameterizedUriTemplate<S> build() {
+        return new ParameterizedUriTemplate<>(parts);
+    }
+
+    private static VariableDefinition variableDefinition(String specification) {
+        int nameEnd = UriTemplateToken.VARIABLE_NAME.match(specification, 0);
+        if (nameEnd < 0) {
+            throw new IllegalArgumentException("Invalid variable name in '%s'".formatted(specification));
+        }
+
+        var name = specification.substring(0, nameEnd);
+        var modifier = specification.substring(nameEnd);
+        if (modifier.isEmpty()) {
+            return new VariableDefinition(name);
+        } else if (modifier.equals("*")) {
+            return new VariableDefinition(name, null, true);
+        } else if (modifier.startsWith(":")
+                && UriTemplateToken.NUMBER.match(modifier, 1) == modifier.length()) {
+            return new VariableDefinition(name, Integer.parseInt(modifier.substring(1)), false);
+        }
+        throw new IllegalArgumentException("Invalid variable specification '%s'".formatted(specification));
+    }
+}
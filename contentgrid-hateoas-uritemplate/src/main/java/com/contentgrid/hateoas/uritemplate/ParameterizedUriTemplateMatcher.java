@@ -0,0 +1,133 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.ExpressionUriTemplatePart;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.LiteralUriTemplatePart;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.SubstitutionUriTemplatePart;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.UriTemplatePart;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Matches URIs that were expanded from a {@link ParameterizedUriTemplate}, without using regular expressions
+ * <p>
+ * The template is split into literal segments and the variable parts (substitution variables and expressions) between
+ * them. There are {@code n} variable parts and always {@code n + 1} literal segments (which can be empty).
+ *
+ * @param <S> The enum type that contains the supported substitution variables
+ * @see ParameterizedUriTemplate#match(String)
+ */
+final class ParameterizedUriTemplateMatcher<S extends Enum<S> & SubstitutionVariableDefinition> {
+
+    private final String[] literals;
+
+    private final List<UriTemplatePart<S>> variableParts;
+
+    private final Class<S> substitutionType;
+
+    ParameterizedUriTemplateMatcher(List<UriTemplatePart<S>> parts) {
+        List<String> literalSegments = new ArrayList<>();
+        List<UriTemplatePart<S>> variableSegments = new ArrayList<>();
+        Class<S> type = null;
+
+        var segment = new StringBuilder();
+        for (var part : parts) {
+            if (part instanceof LiteralUriTemplatePart<S> literalPart) {
+                segment.append(literalPart.getValue());
+            } else {
+                literalSegments.add(encodeLiteral(segment));
+                variableSegments.add(part);
+                segment.setLength(0);
+                if (part instanceof SubstitutionUriTemplatePart<S> substitutionPart) {
+                    type = substitutionPart.getVariable().getDeclaringClass();
+                }
+            }
+        }
+        literalSegments.add(encodeLiteral(segment));
+
+        this.literals = literalSegments.toArray(String[]::new);
+        this.variableParts = List.copyOf(variableSegments);
+        this.substitutionType = type;
+    }
+
+    /**
+     * Encodes a literal segment the same way {@link LiteralUriTemplatePart#expandUri} does, so it matches the
+     * literal as it appears in an expanded URI
+     */
+    private static String encodeLiteral(CharSequence literal) {
+        var encoded = new StringBuilder(literal.length());
+        UriEncoder.encode(literal, true, encoded);
+        return encoded.toString();
+    }
+
+    Optional<UriTemplateMatch<S>> match(String uri) {
+        if (!uri.startsWith(literals[0])) {
+            return Optional.empty();
+        }
+        int position = literals[0].length();
+
+        Map<S, String> substitutions = substitutionType == null ? Map.of() : new EnumMap<>(substitutionType);
+        Map<String, String> variables = new HashMap<>();
+
+        for (int i = 0; i < variableParts.size(); i++) {
+            var nextLiteral = literals[i + 1];
+            var part = variableParts.get(i);
+            int end;
+            if (part instanceof SubstitutionUriTemplatePart<S> substitutionPart) {
+                end = substitutionPart.matchEnd(uri, position, nextLiteral);
+                var value = UriEncoder.decode(uri, position, end);
+                var previous = substitutions.putIfAbsent(substitutionPart.getVariable(), value);
+                if (previous != null && !previous.equals(value)) {
+                    // The same substitution variable has different values at different places
+                    return Optional.empty();
+                }
+            } else if (part instanceof ExpressionUriTemplatePart<S> expressionPart) {
+                end = expressionPart.matchEnd(uri, position, nextLiteral);
+                expressionPart.matchVariables(uri, position, end, variables);
+            } else {
+                throw new IllegalStateException("Unexpected part " + part);
+            }
+
+            if (!uri.startsWith(nextLiteral, end)) {
+                return Optional.empty();
+            }
+            position = end + nextLiteral.length();
+        }
+
+        if (position != uri.length()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new UriTemplateMatch<>(substitutions, variables));
+    }
+
+    /**
+     * Scans over the characters that can be part of an expanded value
+     *
+     * @param uri The expanded URI
+     * @param start Position in the URI where the value starts
+     * @param nextLiteral The literal that follows the value in the template; scanning stops where it starts
+     * @param allowReserved Whether the value can contain reserved characters
+     * @param separator Separator between the elements of a composite value, or {@code '\0'} for single values
+     * @return The position of the first character that is not part of the value
+     */
+    static int scan(String uri, int start, String nextLiteral, boolean allowReserved, char separator) {
+        boolean composite = separator != '\0';
+        int end = start;
+        while (end < uri.length()) {
+            char c = uri.charAt(end);
+            if (!nextLiteral.isEmpty() && c == nextLiteral.charAt(0) && uri.startsWith(nextLiteral, end)) {
+                break;
+            }
+            if (!allowReserved && !UriEncoder.isUnreserved(c) && c != '%'
+                    && !(composite && (c == separator || c == ',' || c == '='))) {
+                break;
+            }
+            end++;
+        }
+        return end;
+    }
+}
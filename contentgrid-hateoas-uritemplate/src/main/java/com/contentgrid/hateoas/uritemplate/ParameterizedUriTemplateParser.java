@@ -5,13 +5,14 @@ import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.ExpressionUr
 import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.ExpressionUriTemplatePart.VariableDefinition;
 import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.LiteralUriTemplatePart;
 import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.SubstitutionUriTemplatePart;
-import com.contentgrid.hateoas.uritemplate.StringParser.NamedPattern;
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.UriTemplatePart;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.NonNull;
@@ -31,13 +32,9 @@ public class ParameterizedUriTemplateParser<S extends Enum<S> & SubstitutionVari
     @With
     private final boolean allowTemplateVariables;
 
-    // RFC6570 Section 2.3
-    private static final String CHAR_PATTERN = "([a-z0-9_]|%[0-9a-f]{2})";
-    private static final NamedPattern VARIABLE_PATTERN = NamedPattern.compile("variable name",
-            CHAR_PATTERN + "+(\\." + CHAR_PATTERN + "+)*", Pattern.CASE_INSENSITIVE);
-    private static final NamedPattern NUMBER = NamedPattern.compile("number", "[0-9]+");
+    private final ClockCache<CacheKey, ParameterizedUriTemplate<S>> cache;
 
-    private static final NamedPattern END_OF_STATIC = NamedPattern.compile("end of static part", "%?\\{|$");
+    private final UriTemplateInterner interner;
 
     public ParameterizedUriTemplateParser(Set<S> substitutionVariables) {
         this(
@@ -46,10 +43,50 @@ public class ParameterizedUriTemplateParser<S extends Enum<S> & SubstitutionVari
                                 SubstitutionVariableDefinition::getName,
                                 Function.identity()
                         )),
-                true
+                true,
+                null,
+                null
         );
     }
 
+    /**
+     * Creates a parser that caches parsed templates.
+     * <p>
+     * Parsing a template string that is already in the cache returns the same {@link ParameterizedUriTemplate}
+     * instance. The cache is shared with parsers derived from the returned parser (e.g. with
+     * {@link #withAllowTemplateVariables(boolean)}).
+     * Templates that fail to parse are not cached.
+     *
+     * @param maximumSize The maximum number of templates to keep in the cache
+     * @return A parser that caches up to {@code maximumSize} parsed templates
+     */
+    public ParameterizedUriTemplateParser<S> withCache(int maximumSize) {
+        return new ParameterizedUriTemplateParser<>(substitutionVariables, allowTemplateVariables,
+                new ClockCache<>(maximumSize), interner);
+    }
+
+    /**
+     * Creates a parser that interns parsed templates.
+     * <p>
+     * Parsed templates that are equal to a template that was interned before are replaced by the interned instance,
+     * and new templates share their parts with the interned templates.
+     *
+     * @param interner The interner to use for parsed templates
+     * @return A parser that interns all parsed templates
+     * @see UriTemplateInterner
+     */
+    public ParameterizedUriTemplateParser<S> withInterner(@NonNull UriTemplateInterner interner) {
+        return new ParameterizedUriTemplateParser<>(substitutionVariables, allowTemplateVariables, cache, interner);
+    }
+
+    /**
+     * @return Statistics of the cache used by this parser, or empty when the parser does not use a cache
+     * @see #withCache(int)
+     */
+    public Optional<CacheStatistics> getCacheStatistics() {
+        return Optional.ofNullable(cache).map(ClockCache::statistics);
+    }
+
     /**
      * Parses a string into a parameterized URI template
      *
@@ -60,23 +97,132 @@ public class ParameterizedUriTemplateParser<S extends Enum<S> & SubstitutionVari
      * @see #parseUnchecked(String) to parse a URI template without a checked exceptions (e.g. for static initializers)
      */
     public ParameterizedUriTemplate<S> parse(@NonNull String template) throws InvalidUriTemplateException {
+        return tryParse(template).getOrThrow();
+    }
+
+    private UriTemplateParseResult<S> doParse(String template) {
         var parser = new StringParser(template);
+        var parts = parseParts(parser, allowTemplateVariables, substitutionVariables::get,
+                substitutionVariables.keySet());
+        if (parts == null) {
+            return UriTemplateParseResult.invalid(parser.getError());
+        }
+        return UriTemplateParseResult.valid(
+                interner == null ? new ParameterizedUriTemplate<>(parts) : interner.intern(parts));
+    }
 
-        List<ParameterizedUriTemplate.UriTemplatePart<S>> parts = new ArrayList<>();
+    /**
+     * Parses a string into the parts of a parameterized URI template, without resolving the substitution variables
+     * <p>
+     * This validates the template in the same way as {@link #parse(String)}, except that substitution variables can
+     * have any name. It is intended for build tooling, that does not have the substitution variable types available.
+     *
+     * @param template The string to parse
+     * @param allowTemplateVariables Whether URI template expressions are allowed
+     * @param visitor Visitor that receives all parts of the template
+     * @throws InvalidUriTemplateException When the template string is invalid
+     */
+    public static void visit(@NonNull String template, boolean allowTemplateVariables,
+            @NonNull UriTemplatePartVisitor visitor) throws InvalidUriTemplateException {
+        List<String> substitutionNames = new ArrayList<>();
+        var parser = new StringParser(template);
+        var parts = parseParts(parser, allowTemplateVariables, name -> {
+            substitutionNames.add(name);
+            return AnySubstitutionVariable.ANY;
+        }, List.of());
+        if (parts == null) {
+            throw parser.getError();
+        }
+
+        var substitutionNamesIterator = substitutionNames.iterator();
+        for (var part : parts) {
+            if (part instanceof LiteralUriTemplatePart<AnySubstitutionVariable> literalPart) {
+                visitor.visitLiteral(literalPart.getValue());
+            } else if (part instanceof SubstitutionUriTemplatePart<AnySubstitutionVariable>) {
+                visitor.visitSubstitution(substitutionNamesIterator.next());
+            } else if (part instanceof ExpressionUriTemplatePart<AnySubstitutionVariable> expressionPart) {
+                expressionPart.accept(visitor);
+            }
+        }
+    }
+
+    /**
+     * @return The parts of the template, or {@code null} when the template is invalid; the error is recorded in the
+     * parser
+     */
+    private static <T extends Enum<T> & SubstitutionVariableDefinition> List<UriTemplatePart<T>> parseParts(
+            StringParser parser, boolean allowTemplateVariables, Function<String, T> substitutionVariables,
+            Collection<String> substitutionNames) {
+        List<UriTemplatePart<T>> parts = new ArrayList<>();
 
         do {
+            UriTemplatePart<T> part;
             if (parser.consumeMatching("%{")) { // dynamic
-                parts.add(parseSubstitutionPart(parser));
-                parser.swallow("}");
+                part = parseSubstitutionPart(parser, substitutionVariables, substitutionNames);
+                if (part == null || !parser.swallow("}")) {
+                    return null;
+                }
             } else if (parser.consumeMatching("{")) { // variable
-                parts.add(parseExpressionPart(parser));
-                parser.swallow("}");
+                part = parseExpressionPart(parser, allowTemplateVariables);
+                if (part == null || !parser.swallow("}")) {
+                    return null;
+                }
             } else { // static
-                parts.add(new LiteralUriTemplatePart<>(parser.consumeUntilBefore(END_OF_STATIC)));
+                var literal = parser.consumeUntilBefore(UriTemplateToken.END_OF_STATIC);
+                if (literal == null) {
+                    return null;
+                }
+                part = new LiteralUriTemplatePart<>(literal);
             }
+            parts.add(part);
         } while (parser.hasMore());
 
-        return new ParameterizedUriTemplate<>(parts);
+        return parts;
+    }
+
+    /**
+     * Parses a string into a parameterized URI template, without throwing an exception for invalid templates
+     *
+     * @param template The string to parse
+     * @return The parsed template, or the position and description of the error in an invalid template
+     */
+    public UriTemplateParseResult<S> tryParse(@NonNull String template) {
+        if (cache == null) {
+            return doParse(template);
+        }
+
+        var key = new CacheKey(template, allowTemplateVariables);
+        var cached = cache.get(key);
+        if (cached != null) {
+            return UriTemplateParseResult.valid(cached);
+        }
+        var result = doParse(template);
+        if (!result.isValid()) {
+            return result;
+        }
+        var parsed = result.getTemplate().orElseThrow();
+        var shared = cache.put(key, parsed);
+        return shared == parsed ? result : UriTemplateParseResult.valid(shared);
+    }
+
+    /**
+     * Checks whether a string is a valid parameterized URI template, without throwing an exception for invalid
+     * templates
+     * <p>
+     * This performs the same checks as {@link #parse(String)}, but does not create the parsed template, and does not
+     * use or fill the cache of this parser. The {@link UriTemplateParseResult#getTemplate() template} of the result is
+     * always empty.
+     *
+     * @param template The string to check
+     * @return The outcome of the validation, with the position and description of the error in an invalid template
+     */
+    public UriTemplateParseResult<S> validate(@NonNull String template) {
+        var parser = new StringParser(template);
+        if (parseParts(parser, allowTemplateVariables, substitutionVariables::get,
+                substitutionVariables.keySet()) == null) {
+            return UriTemplateParseResult.invalid(parser.getError());
+        }
+        return UriTemplateParseResult.validated();
     }
 
     @SneakyThrows(InvalidUriTemplateException.class)
@@ -84,46 +230,66 @@ public class ParameterizedUriTemplateParser<S extends Enum<S> & SubstitutionVari
         return parse(template);
     }
 
-    private SubstitutionUriTemplatePart<S> parseSubstitutionPart(StringParser parser) throws InvalidUriTemplateException {
+    private static <T extends Enum<T> & SubstitutionVariableDefinition> SubstitutionUriTemplatePart<T> parseSubstitutionPart(
+            StringParser parser, Function<String, T> substitutionVariables, Collection<String> substitutionNames) {
         var variable = parser.consumeUntilBefore("}");
+        if (variable == null) {
+            return null;
+        }
 
-        var substitutionVariable = substitutionVariables.get(variable);
+        var substitutionVariable = substitutionVariables.apply(variable);
 
         if (substitutionVariable == null) {
-            throw parser.errorPrevious("Substitution must be any of %s".formatted(
-                    substitutionVariables.keySet().stream().map(s -> "'" + s + "'").collect(Collectors.joining(", "))));
+            parser.failPrevious("Substitution must be any of %s".formatted(
+                    substitutionNames.stream().map(s -> "'" + s + "'").collect(Collectors.joining(", "))));
+            return null;
         }
 
         return new SubstitutionUriTemplatePart<>(substitutionVariable);
 
     }
 
-    private ExpressionUriTemplatePart<S> parseExpressionPart(StringParser parser) throws InvalidUriTemplateException {
+    private static <T extends Enum<T> & SubstitutionVariableDefinition> ExpressionUriTemplatePart<T> parseExpressionPart(
+            StringParser parser, boolean allowTemplateVariables) {
         if(!allowTemplateVariables) {
-            throw parser.error("URI template expressions are not allowed");
+            parser.fail("URI template expressions are not allowed");
+            return null;
         }
 
         var operator = parseOperator(parser);
+        if (operator == null) {
+            return null;
+        }
 
         List<VariableDefinition> variables = new ArrayList<>();
         do {
             // RFC6570 Section 2.3: Variables
-            var variable = parser.consumeMatching(VARIABLE_PATTERN)
-                    .orElseThrow(() -> parser.error("Invalid variable name"))
-                    .group();
+            var variable = parser.consumeMatching(UriTemplateToken.VARIABLE_NAME).orElse(null);
+            if (variable == null) {
+                parser.fail("Invalid variable name");
+                return null;
+            }
 
             Integer maxLength = null;
             if (parser.consumeMatching(":")) { // RFC6570 Section 2.4.1: Prefix values
-                var maxLenStr = parser.consumeMatching(NUMBER)
-                        .orElseThrow(() -> parser.error("Invalid prefix max-length (must be number)"))
-                        .group();
+                var maxLenStr = parser.consumeMatching(UriTemplateToken.NUMBER).orElse(null);
+                if (maxLenStr == null) {
+                    parser.fail("Invalid prefix max-length (must be number)");
+                    return null;
+                }
+                // RFC6570 Section 2.4.1: max-length = %x31-39 0*3DIGIT, a positive integer less than 10000
+                if (maxLenStr.length() > 4 || maxLenStr.charAt(0) == '0') {
+                    parser.failPrevious("Invalid prefix max-length (must be between 1 and 9999)");
+                    return null;
+                }
                 maxLength = Integer.parseInt(maxLenStr);
             }
 
             boolean explode = false;
             if (parser.consumeMatching("*")) { // RFC6570 Section 2.4.2: Composite values
                 if (maxLength != null) {
-                    throw parser.errorPrevious("Prefix max-length and composite value can not be combined");
+                    parser.failPrevious("Prefix max-length and composite value can not be combined");
+                    return null;
                 }
                 explode = true;
             }
@@ -134,15 +300,36 @@ public class ParameterizedUriTemplateParser<S extends Enum<S> & SubstitutionVari
         return new ExpressionUriTemplatePart<>(operator, variables);
     }
 
-    private Operator parseOperator(StringParser parser) throws InvalidUriTemplateException {
-        var operatorStr = parser.consumeUntilBefore(VARIABLE_PATTERN);
+    private static Operator parseOperator(StringParser parser) {
+        var operatorStr = parser.consumeUntilBefore(UriTemplateToken.VARIABLE_NAME);
+        if (operatorStr == null) {
+            return null;
+        }
         var operator = Operator.forString(operatorStr);
 
         if (operator == null) {
-            throw parser.errorPrevious("Unsupported operator '%s'".formatted(operatorStr));
+            parser.failPrevious("Unsupported operator '%s'".formatted(operatorStr));
         }
 
         return operator;
     }
 
+    private record CacheKey(String template, boolean allowTemplateVariables) {
+
+    }
+
+    /**
+     * Stands in for every substitution variable when parsing without substitution variable types
+     *
+     * @see #visit(String, boolean, UriTemplatePartVisitor)
+     */
+    private enum AnySubstitutionVariable implements SubstitutionVariableDefinition {
+        ANY;
+
+        @Override
+        public String getName() {
+            return "";
+        }
+    }
+
 }
@@ -0,0 +1,42 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code static final String} constant as a parameterized URI template that is validated and compiled at
+ * build time
+ * <p>
+ * When the {@code contentgrid-hateoas-uritemplate-processor} annotation processor is present, a class named
+ * <code>&lt;EnclosingClass&gt;UriTemplates</code> is generated next to the class that declares the constants. It has
+ * a {@link ParameterizedUriTemplate} constant with the same name for every annotated constant, which is built
+ * from its parts without parsing the template string. Invalid templates are reported as compilation errors.
+ *
+ * <pre>
+ * class Links {
+ *     &#64;PrecompiledUriTemplate(MySubstitutions.class)
+ *     static final String APPLICATION = "/applications/%{application.id}{?page}";
+ * }
+ *
+ * var template = LinksUriTemplates.APPLICATION;
+ * </pre>
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.SOURCE)
+public @interface PrecompiledUriTemplate {
+
+    /**
+     * @return The enum type that contains the supported substitution variables
+     */
+    Class<? extends SubstitutionVariableDefinition> value();
+
+    /**
+     * @return Whether URI template expressions are allowed in the template
+     * @see ParameterizedUriTemplateParser#withAllowTemplateVariables(boolean)
+     */
+    boolean allowTemplateVariables() default true;
+}
@@ -1,12 +1,14 @@
 package com.contentgrid.hateoas.uritemplate;
 
-
 import java.util.Optional;
-import java.util.regex.MatchResult;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Scanner over a template string
+ * <p>
+ * Parse errors are not thrown: the first error is recorded, and the method that failed returns {@code null} or
+ * {@code false}.
+ */
 @RequiredArgsConstructor
 class StringParser {
 
@@ -15,6 +17,8 @@ class StringParser {
     private int prevPosition = 0;
     private int position = 0;
 
+    private InvalidUriTemplateException error;
+
     public boolean hasMore() {
         return position < data.length();
     }
@@ -43,69 +47,119 @@ class StringParser {
         return false;
     }
 
-    public Optional<MatchResult> consumeMatching(NamedPattern pattern) {
-        var matcher = pattern.matcher(data);
-        if (matcher.find(position)) {
-            updatePosition(matcher.end());
-            return Optional.of(matcher.toMatchResult());
+    /**
+     * Consumes the first occurrence of the token at or after the current position
+     *
+     * @return The matched token, or empty when the token does not occur in the remaining data
+     */
+    public Optional<String> consumeMatching(Token token) {
+        for (int start = position; start <= data.length(); start++) {
+            int end = token.match(data, start);
+            if (end >= 0) {
+                updatePosition(end);
+                return Optional.of(data.substring(start, end));
+            }
         }
         return Optional.empty();
     }
 
-    public String consumeUntilBefore(String matching) throws InvalidUriTemplateException {
+    /**
+     * Consumes everything up to the first occurrence of the string
+     *
+     * @return The consumed data, or {@code null} when the string does not occur in the remaining data, after
+     * {@linkplain #getError() recording an error}
+     */
+    public String consumeUntilBefore(String matching) {
         var matchStart = data.indexOf(matching, position);
         if (matchStart < 0) {
-            throw error("Expected '%s', but got EOF".formatted(matching));
+            fail("Expected '%s', but got EOF".formatted(matching));
+            return null;
         }
         var extracted = data.substring(position, matchStart);
         updatePosition(matchStart);
         return extracted;
     }
 
-    public String consumeUntilBefore(NamedPattern pattern) throws InvalidUriTemplateException {
-        var matcher = pattern.matcher(data);
-        if (!matcher.find(position)) {
-            throw error("Scanned for %s, but got EOF".formatted(pattern.name()));
+    /**
+     * Consumes everything up to the first occurrence of the token
+     *
+     * @return The consumed data, or {@code null} when the token does not occur in the remaining data, after
+     * {@linkplain #getError() recording an error}
+     */
+    public String consumeUntilBefore(Token token) {
+        for (int start = position; start <= data.length(); start++) {
+            if (token.match(data, start) >= 0) {
+                var extracted = data.substring(position, start);
+                updatePosition(start);
+                return extracted;
+            }
         }
-        var extracted = data.substring(position, matcher.start());
-        updatePosition(matcher.start());
-        return extracted;
+        fail("Scanned for %s, but got EOF".formatted(token.getDescription()));
+        return null;
     }
 
-    public void swallow(String matching) throws InvalidUriTemplateException {
-        if (!consumeMatching(matching)) {
-            if (hasMore()) {
-                throw error("Expected '%s', but got '%s'".formatted(matching, peek()));
-            } else {
-                throw error("Expected '%s', but got EOF".formatted(matching));
-            }
+    /**
+     * Consumes the string, which must be present at the current position
+     *
+     * @return Whether the string was consumed; when it was not present, an error is {@linkplain #getError() recorded}
+     */
+    public boolean swallow(String matching) {
+        if (consumeMatching(matching)) {
+            return true;
+        }
+        if (hasMore()) {
+            return fail("Expected '%s', but got '%s'".formatted(matching, peek()));
+        } else {
+            return fail("Expected '%s', but got EOF".formatted(matching));
         }
     }
 
-    public InvalidUriTemplateException error(String message) {
-        return new InvalidUriTemplateException(data, position, message);
+    /**
+     * Records an error at the current position
+     *
+     * @return always {@code false}, so a failed parse step can return the result directly
+     */
+    public boolean fail(String message) {
+        return recordError(position, message);
     }
 
-    public InvalidUriTemplateException errorPrevious(String message) {
-        return new InvalidUriTemplateException(data, prevPosition, message);
+    /**
+     * Records an error at the start of the data that was consumed last
+     *
+     * @return always {@code false}, so a failed parse step can return the result directly
+     */
+    public boolean failPrevious(String message) {
+        return recordError(prevPosition, message);
     }
 
-    public record NamedPattern(
-            Pattern pattern,
-            String name
-    ) {
-
-        public Matcher matcher(CharSequence input) {
-            return pattern.matcher(input);
-        }
-
-        public static NamedPattern compile(String name, String pattern) {
-            return new NamedPattern(Pattern.compile(pattern), name);
+    private boolean recordError(int errorPosition, String message) {
+        if (error == null) {
+            error = new InvalidUriTemplateException(data, errorPosition, message);
         }
+        return false;
+    }
 
-        public static NamedPattern compile(String name, String pattern, int flags) {
-            return new NamedPattern(Pattern.compile(pattern, flags), name);
-        }
+    /**
+     * @return The first error that was recorded, or {@code null} when parsing did not fail
+     */
+    public InvalidUriTemplateException getError() {
+        return error;
+    }
 
+    public interface Token {
+
+        /**
+         * @return Human-readable description of the token, used in error messages
+         */
+        String getDescription();
+
+        /**
+         * Matches the token starting exactly at the given position
+         *
+         * @param data The data to match in
+         * @param position The position where the token has to start
+         * @return The end position (exclusive) of the token, or -1 when the token does not match at the position
+         */
+        int match(String data, int position);
     }
 }
@@ -0,0 +1,206 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Percent-encoding of values for URI template expansion
+ * <p>
+ * Characters are classified with precomputed lookup tables, and runs of characters that do not need encoding are
+ * copied in bulk.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc3986#section-2.1">RFC3986 Section 2.1</a>
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc6570#section-3.2.1">RFC6570 Section 3.2.1</a>
+ */
+final class UriEncoder {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private static final boolean[] UNRESERVED = new boolean[128];
+
+    private static final boolean[] UNRESERVED_OR_RESERVED = new boolean[128];
+
+    static {
+        // RFC3986 Section 2.3: unreserved = ALPHA / DIGIT / "-" / "." / "_" / "~"
+        for (char c = 'a'; c <= 'z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (char c : "-._~".toCharArray()) {
+            UNRESERVED[c] = true;
+        }
+
+        // RFC3986 Section 2.2: reserved = gen-delims / sub-delims
+        System.arraycopy(UNRESERVED, 0, UNRESERVED_OR_RESERVED, 0, UNRESERVED.length);
+        for (char c : ":/?#[]@!$&'()*+,;=".toCharArray()) {
+            UNRESERVED_OR_RESERVED[c] = true;
+        }
+    }
+
+    private UriEncoder() {
+    }
+
+    static boolean isUnreserved(char c) {
+        return c < 128 && UNRESERVED[c];
+    }
+
+    /**
+     * Percent-encodes all characters that are not unreserved
+     *
+     * @param value The value to encode
+     * @return The encoded value, or the value itself when it does not contain any characters that need encoding
+     */
+    static String encode(String value) {
+        int start = findFirstToEncode(value, false);
+        if (start == value.length()) {
+            return value;
+        }
+        var sb = new StringBuilder(value.length() + 16);
+        sb.append(value, 0, start);
+        try {
+            encode(value, start, false, sb);
+        } catch (IOException e) {
+            // StringBuilder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Appends a value to the builder, percent-encoding all characters that are not allowed
+     *
+     * @param value The value to encode
+     * @param allowReserved Whether reserved characters and existing pct-encoded triplets are passed through unchanged
+     * @param out The builder to append the encoded value to
+     */
+    static void encode(CharSequence value, boolean allowReserved, StringBuilder out) {
+        try {
+            encode(value, 0, allowReserved, out);
+        } catch (IOException e) {
+            // StringBuilder does not throw
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a value to the destination, percent-encoding all characters that are not allowed
+     *
+     * @param value The value to encode
+     * @param allowReserved Whether reserved characters and existing pct-encoded triplets are passed through unchanged
+     * @param out The destination to write the encoded value to
+     * @throws IOException When writing to the destination fails
+     */
+    static void encode(CharSequence value, boolean allowReserved, Appendable out) throws IOException {
+        encode(value, 0, allowReserved, out);
+    }
+
+    private static int findFirstToEncode(CharSequence value, boolean allowReserved) {
+        var allowed = allowReserved ? UNRESERVED_OR_RESERVED : UNRESERVED;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 128 || !allowed[c]) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    private static void encode(CharSequence value, int start, boolean allowReserved, Appendable out)
+            throws IOException {
+        var allowed = allowReserved ? UNRESERVED_OR_RESERVED : UNRESERVED;
+        int length = value.length();
+        int runStart = start;
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 128 && allowed[c]) {
+                continue;
+            }
+            if (runStart < i) {
+                out.append(value, runStart, i);
+            }
+            if (c < 128) {
+                if (allowReserved && c == '%' && isPctEncoded(value, i)) {
+                    out.append(c).append(value.charAt(i + 1)).append(value.charAt(i + 2));
+                    i += 2;
+                } else {
+                    appendEscaped(out, c);
+                }
+            } else if (c < 0x800) {
+                appendEscaped(out, 0xC0 | (c >> 6));
+                appendEscaped(out, 0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                appendEscaped(out, 0xF0 | (codePoint >> 18));
+                appendEscaped(out, 0x80 | ((codePoint >> 12) & 0x3F));
+                appendEscaped(out, 0x80 | ((codePoint >> 6) & 0x3F));
+                appendEscaped(out, 0x80 | (codePoint & 0x3F));
+            } else {
+                if (Character.isSurrogate(c)) {
+                    // Unpaired surrogate can not be represented in UTF-8
+                    c = '\uFFFD';
+                }
+                appendEscaped(out, 0xE0 | (c >> 12));
+                appendEscaped(out, 0x80 | ((c >> 6) & 0x3F));
+                appendEscaped(out, 0x80 | (c & 0x3F));
+            }
+            runStart = i + 1;
+        }
+        if (runStart < length) {
+            out.append(value, runStart, length);
+        }
+    }
+
+    /**
+     * Decodes all pct-encoded triplets in a part of a string
+     *
+     * @param value The string to decode
+     * @param start Start of the part to decode (inclusive)
+     * @param end End of the part to decode (exclusive)
+     * @return The decoded part, where sequences of pct-encoded octets are decoded as UTF-8
+     */
+    static String decode(String value, int start, int end) {
+        int i = value.indexOf('%', start);
+        if (i < 0 || i >= end) {
+            return value.substring(start, end);
+        }
+
+        var sb = new StringBuilder(end - start);
+        sb.append(value, start, i);
+        byte[] octets = new byte[(end - i) / 3];
+        while (i < end) {
+            if (i + 2 < end && value.charAt(i) == '%' && isPctEncoded(value, i)) {
+                int length = 0;
+                while (i + 2 < end && value.charAt(i) == '%' && isPctEncoded(value, i)) {
+                    octets[length++] = (byte) ((Character.digit(value.charAt(i + 1), 16) << 4)
+                            | Character.digit(value.charAt(i + 2), 16));
+                    i += 3;
+                }
+                sb.append(new String(octets, 0, length, StandardCharsets.UTF_8));
+            } else {
+                sb.append(value.charAt(i++));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isPctEncoded(CharSequence value, int position) {
+        return position + 2 < value.length()
+                && isHexDigit(value.charAt(position + 1))
+                && isHexDigit(value.charAt(position + 2));
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static void appendEscaped(Appendable out, int octet) throws IOException {
+        out.append('%').append(HEX[(octet >> 4) & 0xF]).append(HEX[octet & 0xF]);
+    }
+}
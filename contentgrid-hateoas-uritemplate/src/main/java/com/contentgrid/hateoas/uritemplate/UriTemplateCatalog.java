@@ -0,0 +1,134 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+
+/**
+ * A catalog of named parameterized URI templates
+ *
+ * @param <S> The enum type that contains the supported substitution variables
+ * @see UriTemplateCatalogLoader for creating this object
+ */
+public final class UriTemplateCatalog<S extends Enum<S> & SubstitutionVariableDefinition> {
+
+    private final ParameterizedUriTemplateParser<S> parser;
+
+    private final Map<String, Entry<S>> entries;
+
+    UriTemplateCatalog(ParameterizedUriTemplateParser<S> parser, Map<String, Entry<S>> entries) {
+        this.parser = parser;
+        this.entries = Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * @return The names of all templates in the catalog
+     */
+    public Set<String> getNames() {
+        return entries.keySet();
+    }
+
+    /**
+     * Retrieves a template from the catalog, parsing it when it was loaded lazily and is accessed for the first time
+     *
+     * @param name The name of the template
+     * @return The parsed template
+     * @throws InvalidUriTemplateException When the template string is invalid
+     * @throws NoSuchElementException When there is no template with this name
+     */
+    public ParameterizedUriTemplate<S> get(@NonNull String name) throws InvalidUriTemplateException {
+        var entry = entries.get(name);
+        if (entry == null) {
+            throw new NoSuchElementException("No template named '%s'".formatted(name));
+        }
+        return entry.resolve(parser);
+    }
+
+    @SneakyThrows(InvalidUriTemplateException.class)
+    public ParameterizedUriTemplate<S> getUnchecked(@NonNull String name) {
+        return get(name);
+    }
+
+    /**
+     * Reports all templates that failed to parse.
+     * <p>
+     * Templates that are loaded lazily are only included after they have been accessed.
+     *
+     * @return The parse failures, by template name
+     */
+    public Map<String, InvalidUriTemplateException> getFailures() {
+        Map<String, InvalidUriTemplateException> failures = new LinkedHashMap<>();
+        entries.forEach((name, entry) -> {
+            if (entry.result instanceof InvalidUriTemplateException failure) {
+                failures.put(name, failure);
+            }
+        });
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Checks that all templates that have been parsed so far are valid
+     *
+     * @throws InvalidUriTemplateCatalogException When any template failed to parse, listing every failure
+     */
+    public void ensureValid() throws InvalidUriTemplateCatalogException {
+        var failures = getFailures();
+        if (!failures.isEmpty()) {
+            throw new InvalidUriTemplateCatalogException(failures);
+        }
+    }
+
+    /**
+     * A template string in the catalog, together with its parsed template or parse failure once it has been parsed
+     */
+    static final class Entry<S extends Enum<S> & SubstitutionVariableDefinition> {
+
+        private final String template;
+
+        /**
+         * The parsed {@link ParameterizedUriTemplate}, the {@link InvalidUriTemplateException} when it failed to
+         * parse, or {@code null} when it has not been parsed yet
+         */
+        private volatile Object result;
+
+        Entry(String template) {
+            this.template = template;
+        }
+
+        /**
+         * Parses the template string, unless it has already been parsed
+         *
+         * @return The parsed template, or the failure to parse it
+         */
+        Object load(ParameterizedUriTemplateParser<S> parser) {
+            var current = result;
+            if (current == null) {
+                // Parsing is idempotent, so a concurrent first access at worst parses the same template twice
+                try {
+                    current = parser.parse(template);
+                } catch (InvalidUriTemplateException e) {
+                    current = e;
+                } catch (RuntimeException e) {
+                    // Reported like any other invalid template, instead of aborting the load of the whole catalog
+                    current = new InvalidUriTemplateException(template, 0, "Failed to parse template: " + e, e);
+                }
+                result = current;
+            }
+            return current;
+        }
+
+        @SuppressWarnings("unchecked")
+        ParameterizedUriTemplate<S> resolve(ParameterizedUriTemplateParser<S> parser)
+                throws InvalidUriTemplateException {
+            var current = load(parser);
+            if (current instanceof InvalidUriTemplateException failure) {
+                throw failure;
+            }
+            return (ParameterizedUriTemplate<S>) current;
+        }
+    }
+}
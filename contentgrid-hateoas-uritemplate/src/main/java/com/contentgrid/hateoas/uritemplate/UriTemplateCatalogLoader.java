@@ -0,0 +1,90 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.With;
+
+/**
+ * Loads a catalog of named template strings into a {@link UriTemplateCatalog}
+ * <p>
+ * Templates are parsed in parallel on an {@link Executor}, and parsing continues after a template fails to parse, so
+ * all invalid templates are reported at once. Templates that are rarely used can be loaded lazily: they are only
+ * parsed when they are first accessed.
+ *
+ * @param <S> The enum type that contains the supported substitution variables
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class UriTemplateCatalogLoader<S extends Enum<S> & SubstitutionVariableDefinition> {
+
+    /**
+     * Number of batches per available processor that the templates are divided in, to balance the load when some
+     * templates take longer to parse than others
+     */
+    private static final int BATCHES_PER_PROCESSOR = 4;
+
+    private final ParameterizedUriTemplateParser<S> parser;
+
+    /**
+     * Executor that parses the templates that are not loaded lazily
+     */
+    @With
+    @NonNull
+    private final Executor executor;
+
+    /**
+     * Selects the names of the templates that are only parsed when they are first accessed
+     */
+    @With
+    @NonNull
+    private final Predicate<String> lazy;
+
+    public UriTemplateCatalogLoader(@NonNull ParameterizedUriTemplateParser<S> parser) {
+        this(parser, ForkJoinPool.commonPool(), name -> false);
+    }
+
+    /**
+     * Loads templates into a catalog
+     * <p>
+     * All templates that are not loaded lazily are parsed before this method returns. Templates that fail to parse
+     * are present in the catalog, and are reported by {@link UriTemplateCatalog#getFailures()}.
+     *
+     * @param templates Template strings, by name
+     * @return The catalog of parsed templates
+     */
+    public UriTemplateCatalog<S> load(@NonNull Map<String, String> templates) {
+        Map<String, UriTemplateCatalog.Entry<S>> entries = new LinkedHashMap<>(templates.size());
+        List<UriTemplateCatalog.Entry<S>> eagerEntries = new ArrayList<>(templates.size());
+        templates.forEach((name, template) -> {
+            var entry = new UriTemplateCatalog.Entry<S>(template);
+            entries.put(name, entry);
+            if (!lazy.test(name)) {
+                eagerEntries.add(entry);
+            }
+        });
+
+        var catalog = new UriTemplateCatalog<>(parser, entries);
+
+        int batches = Math.min(eagerEntries.size(), Runtime.getRuntime().availableProcessors() * BATCHES_PER_PROCESSOR);
+        var futures = new CompletableFuture<?>[batches];
+        for (int batch = 0; batch < batches; batch++) {
+            int firstIndex = batch;
+            futures[batch] = CompletableFuture.runAsync(() -> {
+                for (int i = firstIndex; i < eagerEntries.size(); i += batches) {
+                    eagerEntries.get(i).load(parser);
+                }
+            }, executor);
+        }
+        CompletableFuture.allOf(futures).join();
+
+        return catalog;
+    }
+}
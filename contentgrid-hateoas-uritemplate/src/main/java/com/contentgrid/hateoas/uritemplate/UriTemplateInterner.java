@@ -0,0 +1,100 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplate.UriTemplatePart;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+
+/**
+ * Deduplicates parameterized URI templates and their parts
+ * <p>
+ * Equal templates are replaced by a single shared instance, and templates that are not equal share their equal
+ * literal parts, expressions and substitution variables, as well as the equal literal segments of their expansion
+ * plans. When many similar templates are kept in memory (e.g. one
+ * set of templates per tenant), this reduces heap usage, and makes lookups in template-keyed maps cheap: interned
+ * templates are compared by identity first, and cache their hash code.
+ * <p>
+ * Literal parts and expressions do not depend on the substitution variable type, so they are shared between
+ * templates with different substitution variable types. Interned templates and parts are kept for the lifetime of
+ * the interner.
+ *
+ * @see ParameterizedUriTemplateParser#withInterner(UriTemplateInterner) to intern all templates created by a parser
+ */
+public final class UriTemplateInterner {
+
+    private final Map<UriTemplatePart<?>, UriTemplatePart<?>> parts = new ConcurrentHashMap<>();
+
+    private final Map<List<? extends UriTemplatePart<?>>, ParameterizedUriTemplate<?>> templates = new ConcurrentHashMap<>();
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared instance of a template
+     *
+     * @param template The template to intern
+     * @return A template that is equal to the given template, and is shared with all equal templates that were
+     * interned before
+     */
+    public <S extends Enum<S> & SubstitutionVariableDefinition> ParameterizedUriTemplate<S> intern(
+            @NonNull ParameterizedUriTemplate<S> template) {
+        var existing = lookup(template.getParts());
+        if (existing != null) {
+            return existing;
+        }
+        return store(template.getParts());
+    }
+
+    /**
+     * @return The number of distinct templates in this interner
+     */
+    public int getTemplateCount() {
+        return templates.size();
+    }
+
+    /**
+     * @return The number of distinct template parts in this interner
+     */
+    public int getPartCount() {
+        return parts.size();
+    }
+
+    /**
+     * Creates a template from its parts, or returns the shared instance when an equal template was interned before
+     */
+    <S extends Enum<S> & SubstitutionVariableDefinition> ParameterizedUriTemplate<S> intern(
+            List<UriTemplatePart<S>> templateParts) {
+        var existing = lookup(templateParts);
+        if (existing != null) {
+            return existing;
+        }
+        return store(templateParts);
+    }
+
+    private String internString(String value) {
+        return strings.computeIfAbsent(value, s -> s);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S extends Enum<S> & SubstitutionVariableDefinition> ParameterizedUriTemplate<S> lookup(
+            List<UriTemplatePart<S>> templateParts) {
+        // Equal templates can only have different substitution variable types when they have no substitution
+        // variables at all, and such templates behave the same for every substitution variable type.
+        return (ParameterizedUriTemplate<S>) templates.get(templateParts);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S extends Enum<S> & SubstitutionVariableDefinition> ParameterizedUriTemplate<S> store(
+            List<UriTemplatePart<S>> templateParts) {
+        List<UriTemplatePart<S>> sharedParts = new ArrayList<>(templateParts.size());
+        for (var part : templateParts) {
+            sharedParts.add((UriTemplatePart<S>) parts.computeIfAbsent(part, p -> p));
+        }
+
+        // Always create a new template, so the strings of its expansion plan are shared as well
+        var sharedTemplate = new ParameterizedUriTemplate<>(sharedParts, this::internString);
+        return (ParameterizedUriTemplate<S>) templates.computeIfAbsent(sharedTemplate.getParts(),
+                key -> sharedTemplate);
+    }
+}
@@ -0,0 +1,78 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import lombok.NonNull;
+import tools.jackson.core.JsonGenerator;
+
+/**
+ * Writes expanded {@link ParameterizedUriTemplate}s straight into a Jackson {@link JsonGenerator}, without creating a
+ * {@link String} for every expanded template.
+ * <p>
+ * The template is expanded into a per-thread character buffer, which is then written as a JSON string value.
+ * <p>
+ * Jackson is an optional dependency of this library; this class can only be used when
+ * {@code tools.jackson.core:jackson-core} is present on the classpath.
+ */
+public final class UriTemplateJsonWriter {
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    /**
+     * Buffers that grew larger than this are not kept around for reuse
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+
+    private static final ThreadLocal<CharArrayBuffer> BUFFER = ThreadLocal.withInitial(
+            () -> new CharArrayBuffer(INITIAL_BUFFER_SIZE));
+
+    private UriTemplateJsonWriter() {
+    }
+
+    /**
+     * Writes the expanded template as a JSON string value
+     *
+     * @param generator The generator to write to
+     * @param template The template to expand
+     * @param replacer Replacer that will be used to fill in the substitution variables
+     * @see ParameterizedUriTemplate#expand(ParameterReplacer)
+     */
+    public static <S extends Enum<S> & SubstitutionVariableDefinition> void writeString(
+            @NonNull JsonGenerator generator,
+            @NonNull ParameterizedUriTemplate<S> template,
+            @NonNull ParameterReplacer<S> replacer
+    ) {
+        var buffer = BUFFER.get();
+        try {
+            buffer.clear();
+            template.expandTo(buffer, replacer);
+            generator.writeString(buffer.chars(), 0, buffer.length());
+        } catch (IOException e) {
+            // CharArrayBuffer does not throw
+            throw new UncheckedIOException(e);
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    /**
+     * Writes a property with the expanded template as JSON string value
+     *
+     * @param generator The generator to write to
+     * @param name The name of the property
+     * @param template The template to expand
+     * @param replacer Replacer that will be used to fill in the substitution variables
+     * @see ParameterizedUriTemplate#expand(ParameterReplacer)
+     */
+    public static <S extends Enum<S> & SubstitutionVariableDefinition> void writeStringProperty(
+            @NonNull JsonGenerator generator,
+            @NonNull String name,
+            @NonNull ParameterizedUriTemplate<S> template,
+            @NonNull ParameterReplacer<S> replacer
+    ) {
+        generator.writeName(name);
+        writeString(generator, template, replacer);
+    }
+}
@@ -0,0 +1,34 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import java.util.Collections;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * Values extracted from a URI by matching it with a {@link ParameterizedUriTemplate}
+ *
+ * @param <S> The enum type that contains the supported substitution variables
+ * @see ParameterizedUriTemplate#match(String)
+ */
+@Value
+public class UriTemplateMatch<S extends Enum<S> & SubstitutionVariableDefinition> {
+
+    /**
+     * Values of the substitution variables
+     */
+    Map<S, String> substitutions;
+
+    /**
+     * Values of the URI template variables that are present in the URI
+     * <p>
+     * The items of lists are joined with commas, also for exploded variables.
+     *
+     * @see ParameterizedUriTemplate#match(String) for the values of unnamed expressions with undefined variables
+     */
+    Map<String, String> variables;
+
+    UriTemplateMatch(Map<S, String> substitutions, Map<String, String> variables) {
+        this.substitutions = Collections.unmodifiableMap(substitutions);
+        this.variables = Collections.unmodifiableMap(variables);
+    }
+}
@@ -0,0 +1,88 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Outcome of parsing or validating a template string: either the parsed template, or the error in the template string
+ * <p>
+ * Validating a template does not create the parsed template, so the result of a successful validation does not contain
+ * a template.
+ *
+ * @param <S> The enum type that contains the supported substitution variables
+ * @see ParameterizedUriTemplateParser#tryParse(String) for creating this object
+ * @see ParameterizedUriTemplateParser#validate(String) for creating this object without parsing the template
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+@ToString
+public final class UriTemplateParseResult<S extends Enum<S> & SubstitutionVariableDefinition> {
+
+    private final ParameterizedUriTemplate<S> template;
+
+    private final InvalidUriTemplateException error;
+
+    static <S extends Enum<S> & SubstitutionVariableDefinition> UriTemplateParseResult<S> valid(
+            ParameterizedUriTemplate<S> template) {
+        return new UriTemplateParseResult<>(template, null);
+    }
+
+    static <S extends Enum<S> & SubstitutionVariableDefinition> UriTemplateParseResult<S> validated() {
+        return new UriTemplateParseResult<>(null, null);
+    }
+
+    static <S extends Enum<S> & SubstitutionVariableDefinition> UriTemplateParseResult<S> invalid(
+            InvalidUriTemplateException error) {
+        return new UriTemplateParseResult<>(null, error);
+    }
+
+    /**
+     * @return Whether the template string is valid
+     */
+    public boolean isValid() {
+        return error == null;
+    }
+
+    /**
+     * @return The parsed template, or empty when the template string is invalid or was only validated
+     */
+    public Optional<ParameterizedUriTemplate<S>> getTemplate() {
+        return Optional.ofNullable(template);
+    }
+
+    /**
+     * @return The error in the template string, or empty when the template string is valid
+     */
+    public Optional<InvalidUriTemplateException> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * @return The position of the error in the template string, or empty when the template string is valid
+     */
+    public OptionalInt getErrorPosition() {
+        return error == null ? OptionalInt.empty() : OptionalInt.of(error.getPosition());
+    }
+
+    /**
+     * @return The description of the error in the template string, or empty when the template string is valid
+     */
+    public Optional<String> getErrorDescription() {
+        return getError().map(InvalidUriTemplateException::getDescription);
+    }
+
+    /**
+     * @return The parsed template, or {@code null} when the template string was only validated
+     * @throws InvalidUriTemplateException When the template string is invalid
+     */
+    public ParameterizedUriTemplate<S> getOrThrow() throws InvalidUriTemplateException {
+        if (error != null) {
+            throw error;
+        }
+        return template;
+    }
+}
@@ -0,0 +1,47 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Receives the parts of a parameterized URI template, in the order they are present in the template string
+ *
+ * @see ParameterizedUriTemplateParser#visit(String, boolean, UriTemplatePartVisitor)
+ * @see ParameterizedUriTemplate#accept(UriTemplatePartVisitor)
+ * @see ParameterizedUriTemplateBuilder for building a template from the same parts
+ */
+public interface UriTemplatePartVisitor {
+
+    /**
+     * @param value The literal value, as it is present in the template string
+     */
+    void visitLiteral(String value);
+
+    /**
+     * @param name The name of the substitution variable
+     */
+    void visitSubstitution(String name);
+
+    /**
+     * @param operator The expression operator, or an empty string for simple expansion
+     * @param variables The variable specifications of the expression (e.g. <code>page</code>, <code>list*</code> or
+     * <code>var:3</code>)
+     */
+    void visitExpression(String operator, List<String> variables);
+
+    /**
+     * Receives an expression with its variables, without formatting the variables as specification strings
+     * <p>
+     * The default implementation calls {@link #visitExpression(String, List)} with the variable specifications.
+     *
+     * @param operator The expression operator, or an empty string for simple expansion
+     * @param variables The variables of the expression
+     */
+    default void visitExpressionVariables(String operator, List<? extends UriTemplateVariable> variables) {
+        List<String> specifications = new ArrayList<>(variables.size());
+        for (var variable : variables) {
+            specifications.add(variable.toSpecification());
+        }
+        visitExpression(operator, specifications);
+    }
+}
@@ -0,0 +1,112 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import com.contentgrid.hateoas.uritemplate.StringParser.Token;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Tokens of the URI template grammar, scanned using precomputed character class tables
+ */
+@RequiredArgsConstructor
+enum UriTemplateToken implements Token {
+    /**
+     * RFC6570 Section 2.3: <code>varname = varchar *( ["."] varchar )</code>, with
+     * <code>varchar = ALPHA / DIGIT / "_" / pct-encoded</code>
+     */
+    VARIABLE_NAME("variable name") {
+        @Override
+        public int match(String data, int position) {
+            int end = matchVarchars(data, position);
+            if (end == position) {
+                return -1;
+            }
+            while (end < data.length() && data.charAt(end) == '.') {
+                int next = matchVarchars(data, end + 1);
+                if (next == end + 1) {
+                    break;
+                }
+                end = next;
+            }
+            return end;
+        }
+    },
+    NUMBER("number") {
+        @Override
+        public int match(String data, int position) {
+            int end = position;
+            while (end < data.length() && is(data.charAt(end), DIGIT)) {
+                end++;
+            }
+            return end == position ? -1 : end;
+        }
+    },
+    /**
+     * The start of an expression (<code>{</code>), a substitution variable (<code>%{</code>) or the end of the input
+     */
+    END_OF_STATIC("end of static part") {
+        @Override
+        public int match(String data, int position) {
+            if (position == data.length()) {
+                return position;
+            }
+            char c = data.charAt(position);
+            if (c == '{') {
+                return position + 1;
+            } else if (c == '%' && position + 1 < data.length() && data.charAt(position + 1) == '{') {
+                return position + 2;
+            }
+            return -1;
+        }
+    };
+
+    private static final byte VARCHAR = 1;
+    private static final byte DIGIT = 2;
+    private static final byte HEXDIG = 4;
+
+    private static final byte[] CHARACTER_CLASSES = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CHARACTER_CLASSES[c] |= VARCHAR;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CHARACTER_CLASSES[c] |= VARCHAR;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CHARACTER_CLASSES[c] |= VARCHAR | DIGIT | HEXDIG;
+        }
+        CHARACTER_CLASSES['_'] |= VARCHAR;
+        for (char c = 'a'; c <= 'f'; c++) {
+            CHARACTER_CLASSES[c] |= HEXDIG;
+        }
+        for (char c = 'A'; c <= 'F'; c++) {
+            CHARACTER_CLASSES[c] |= HEXDIG;
+        }
+    }
+
+    @Getter
+    private final String description;
+
+    private static boolean is(char c, byte characterClass) {
+        return c < CHARACTER_CLASSES.length && (CHARACTER_CLASSES[c] & characterClass) != 0;
+    }
+
+    /**
+     * @return The end position of the run of <code>varchar</code>s that starts at the given position
+     */
+    private static int matchVarchars(String data, int position) {
+        int end = position;
+        while (end < data.length()) {
+            char c = data.charAt(end);
+            if (is(c, VARCHAR)) {
+                end++;
+            } else if (c == '%' && end + 2 < data.length()
+                    && is(data.charAt(end + 1), HEXDIG) && is(data.charAt(end + 2), HEXDIG)) {
+                end += 3;
+            } else {
+                break;
+            }
+        }
+        return end;
+    }
+}
@@ -0,0 +1,32 @@
+package com.contentgrid.hateoas.uritemplate;
+
+/**
+ * A variable of a URI template expression, with its value modifiers
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc6570#section-2.3">RFC6570 Section 2.3</a>
+ * @see UriTemplatePartVisitor#visitExpressionVariables(String, java.util.List)
+ */
+public interface UriTemplateVariable {
+
+    /**
+     * @return The name of the variable
+     */
+    String getName();
+
+    /**
+     * @return The maximum number of characters of the value (prefix modifier), or {@code null} when the whole value is
+     * used
+     */
+    Integer getMaxLength();
+
+    /**
+     * @return Whether composite values are exploded (explode modifier)
+     */
+    boolean isExplode();
+
+    /**
+     * @return The variable specification as it is present in the template string (e.g. <code>page</code>,
+     * <code>list*</code> or <code>var:3</code>)
+     */
+    String toSpecification();
+}
@@ -0,0 +1,99 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.Test;
+
+class MemoizingUriTemplateExpanderTest {
+
+    @RequiredArgsConstructor
+    @Getter
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    enum TestSubstitutionParameters implements SubstitutionVariableDefinition {
+        APPLICATION_ID("application.id"),
+        TENANT_ID("tenant.id");
+        String name;
+    }
+
+    private final ParameterizedUriTemplateParser<TestSubstitutionParameters> parser = new ParameterizedUriTemplateParser<>(
+            EnumSet.allOf(TestSubstitutionParameters.class)
+    );
+
+    @Test
+    void expandsOncePerDistinctValue() {
+        var expander = parser.parseUnchecked("/apps/%{application.id}{?page}").memoizing(10);
+        var replacements = new AtomicInteger();
+
+        for (int i = 0; i < 10; i++) {
+            var app = "app " + (i % 2);
+            assertThat(expander.expand(substitutionVariable -> {
+                replacements.incrementAndGet();
+                return app;
+            })).isEqualTo("/apps/app%20" + (i % 2) + "{?page}");
+        }
+
+        assertThat(expander.expand(Map.of(TestSubstitutionParameters.APPLICATION_ID, "app 1")))
+                .isEqualTo("/apps/app%201{?page}");
+        assertThat(replacements).hasValue(10);
+        assertThat(expander.getCacheStatistics().missCount()).isEqualTo(2);
+        assertThat(expander.getCacheStatistics().hitCount()).isEqualTo(9);
+    }
+
+    @Test
+    void ignoresSubstitutionsNotUsedInTemplate() {
+        var expander = parser.parseUnchecked("/apps/%{application.id}").memoizing(10);
+
+        var withUnusedNull = new HashMap<TestSubstitutionParameters, String>();
+        withUnusedNull.put(TestSubstitutionParameters.APPLICATION_ID, "app");
+        withUnusedNull.put(TestSubstitutionParameters.TENANT_ID, null);
+
+        assertThat(expander.expand(withUnusedNull)).isEqualTo("/apps/app");
+        assertThat(expander.expand(Map.of(
+                TestSubstitutionParameters.APPLICATION_ID, "app",
+                TestSubstitutionParameters.TENANT_ID, "tenant"
+        ))).isEqualTo("/apps/app");
+
+        // unused substitutions do not fragment the cache
+        assertThat(expander.getCacheStatistics().size()).isEqualTo(1);
+        assertThat(expander.getCacheStatistics().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void changingSubstitutionsAfterExpansion() {
+        var expander = parser.parseUnchecked("/apps/%{application.id}").memoizing(10);
+
+        var substitutions = new HashMap<TestSubstitutionParameters, String>();
+        substitutions.put(TestSubstitutionParameters.APPLICATION_ID, "one");
+        assertThat(expander.expand(substitutions)).isEqualTo("/apps/one");
+
+        substitutions.put(TestSubstitutionParameters.APPLICATION_ID, "two");
+        assertThat(expander.expand(substitutions)).isEqualTo("/apps/two");
+        assertThat(expander.expand(Map.of(TestSubstitutionParameters.APPLICATION_ID, "one"))).isEqualTo("/apps/one");
+    }
+
+    @Test
+    void withoutSubstitutionVariables() {
+        var expander = parser.parseUnchecked("/apps{?page}").memoizing(10);
+
+        assertThat(expander.expand(Map.of())).isEqualTo("/apps{?page}");
+    }
+
+    @Test
+    void missingSubstitution() {
+        var expander = parser.parseUnchecked("/apps/%{application.id}").memoizing(10);
+
+        assertThatThrownBy(() -> expander.expand(Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> expander.expand(Map.of(TestSubstitutionParameters.TENANT_ID, "tenant")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
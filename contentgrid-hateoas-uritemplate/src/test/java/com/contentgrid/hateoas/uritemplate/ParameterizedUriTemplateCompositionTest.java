@@ -0,0 +1,93 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplateParserTest.TestSubstitutionParameters;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ParameterizedUriTemplateCompositionTest {
+
+    private final ParameterizedUriTemplateParser<TestSubstitutionParameters> parser = new ParameterizedUriTemplateParser<>(
+            EnumSet.allOf(TestSubstitutionParameters.class)
+    );
+
+    @ParameterizedTest(name = "{0} + {1}")
+    @MethodSource
+    void append(String base, String relative) {
+        var appended = parser.parseUnchecked(base).append(parser.parseUnchecked(relative));
+
+        assertThat(appended).isEqualTo(parser.parseUnchecked(base + relative));
+        assertThat(appended.toTemplate()).isEqualTo(base + relative);
+    }
+
+    static Stream<Arguments> append() {
+        return Stream.of(
+                Arguments.of("/apps/%{application.id}", "/items{?page}"),
+                Arguments.of("/apps", "/items"),
+                Arguments.of("/apps{/entity}", "{?page}"),
+                Arguments.of("", "/items"),
+                Arguments.of("/apps/%{application.id}/", "%{application.id}")
+        );
+    }
+
+    @Test
+    void appendAmbiguous() {
+        var base = parser.parseUnchecked("/apps/%");
+        var relative = parser.parseUnchecked("{var}");
+
+        assertThatThrownBy(() -> base.append(relative)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest(name = "{0} -> {2}")
+    @MethodSource
+    void bind(String template, Map<String, ?> variables, String expected) {
+        var bound = parser.parseUnchecked(template).bind(variables);
+
+        assertThat(bound.toTemplate()).isEqualTo(expected);
+        assertThat(bound).isEqualTo(parser.parseUnchecked(expected));
+    }
+
+    static Stream<Arguments> bind() {
+        var undefined = new HashMap<String, Object>();
+        undefined.put("page", null);
+
+        return Stream.of(
+                Arguments.of("/apps/%{application.id}{/entity}{?page,size}", Map.of("entity", "persons"),
+                        "/apps/%{application.id}/persons{?page,size}"),
+                Arguments.of("/apps{/entity,id}", Map.of("entity", "persons"), "/apps/persons{/id}"),
+                Arguments.of("/apps{?page,size}", Map.of("page", 2), "/apps?page=2{&size}"),
+                Arguments.of("/apps{?page,size}", undefined, "/apps{?size}"),
+                Arguments.of("/apps{?page,size}", Map.of("page", 2, "size", 20), "/apps?page=2&size=20"),
+                Arguments.of("/apps{?page}{&size}", Map.of("size", 20), "/apps{?page}&size=20"),
+                Arguments.of("/apps{x,y}", Map.of("x", "a b", "y", "c"), "/appsa%20b,c"),
+                Arguments.of("/apps{/entity}", Map.of(), "/apps{/entity}")
+        );
+    }
+
+    @Test
+    void bindNotSeparable() {
+        var query = parser.parseUnchecked("/apps{?page,size}");
+        assertThatThrownBy(() -> query.bind(Map.of("size", 20))).isInstanceOf(IllegalArgumentException.class);
+
+        var simple = parser.parseUnchecked("/apps{x,y}");
+        assertThatThrownBy(() -> simple.bind(Map.of("x", 1))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void bindThenExpand() {
+        var template = parser.parseUnchecked("/apps/%{application.id}{/entity,id}{?page,size}");
+        var bound = template.bind(Map.of("entity", "persons", "page", 1));
+
+        assertThat(bound.expand(variable -> "app", Map.of("id", "42", "size", 10)))
+                .isEqualTo(template.expand(variable -> "app",
+                        Map.of("entity", "persons", "id", "42", "page", 1, "size", 10)));
+    }
+}
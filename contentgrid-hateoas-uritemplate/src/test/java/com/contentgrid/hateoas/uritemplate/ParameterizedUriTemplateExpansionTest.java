@@ -0,0 +1,331 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplateParserTest.TestSubstitutionParameters;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import tools.jackson.core.json.JsonFactory;
+
+class ParameterizedUriTemplateExpansionTest {
+
+    private final ParameterizedUriTemplateParser<TestSubstitutionParameters> parser = new ParameterizedUriTemplateParser<>(
+            EnumSet.allOf(TestSubstitutionParameters.class)
+    );
+
+    private static final ParameterReplacer<TestSubstitutionParameters> REPLACER = substitutionVariable -> "app 1";
+
+    // RFC6570 Section 3.2
+    private static final Map<String, Object> VARIABLES = new HashMap<>();
+
+    static {
+        var keys = new LinkedHashMap<String, String>();
+        keys.put("semi", ";");
+        keys.put("dot", ".");
+        keys.put("comma", ",");
+
+        VARIABLES.put("count", List.of("one", "two", "three"));
+        VARIABLES.put("dom", List.of("example", "com"));
+        VARIABLES.put("dub", "me/too");
+        VARIABLES.put("hello", "Hello World!");
+        VARIABLES.put("half", "50%");
+        VARIABLES.put("var", "value");
+        VARIABLES.put("who", "fred");
+        VARIABLES.put("base", "http://example.com/home/");
+        VARIABLES.put("path", "/foo/bar");
+        VARIABLES.put("list", List.of("red", "green", "blue"));
+        VARIABLES.put("keys", keys);
+        VARIABLES.put("v", "6");
+        VARIABLES.put("x", "1024");
+        VARIABLES.put("y", "768");
+        VARIABLES.put("empty", "");
+        VARIABLES.put("empty_keys", Map.of());
+        VARIABLES.put("undef", null);
+    }
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @MethodSource
+    void rfc6570Examples(String template, String expected) {
+        assertThat(parser.parseUnchecked(template).expand(REPLACER, VARIABLES)).isEqualTo(expected);
+    }
+
+    @Test
+    void expandSubstitutionsAndExpressions() {
+        var template = parser.parseUnchecked("https://example.com/apps/%{application.id}{/entity}{?page,size}");
+
+        assertThat(template.expand(REPLACER, Map.of("entity", "persons", "page", 2)))
+                .isEqualTo("https://example.com/apps/app%201/persons?page=2");
+    }
+
+    @Test
+    void expandUnicode() {
+        var template = parser.parseUnchecked("/{var}{/var:2}");
+
+        assertThat(template.expand(REPLACER, Map.of("var", "é😀x")))
+                .isEqualTo("/%C3%A9%F0%9F%98%80x/%C3%A9%F0%9F%98%80");
+    }
+
+    @Test
+    void expandArray() {
+        var template = parser.parseUnchecked("{?list*}");
+
+        assertThat(template.expand(REPLACER, Map.of("list", new Object[]{"a", 1})))
+                .isEqualTo("?list=a&list=1");
+    }
+
+    @Test
+    void expandEachReplacer() {
+        var template = parser.parseUnchecked("/apps/%{application.id}{/entity}");
+        List<ParameterReplacer<TestSubstitutionParameters>> replacers = List.of(
+                substitutionVariable -> "a",
+                substitutionVariable -> "b/c",
+                substitutionVariable -> "d"
+        );
+
+        var output = new StringBuilder();
+        template.expandEach(replacers, expanded -> output.append(expanded).append('\n'));
+
+        assertThat(output).hasToString("/apps/a{/entity}\n/apps/b%2Fc{/entity}\n/apps/d{/entity}\n");
+        assertThat(template.expandAll(replacers))
+                .containsExactly("/apps/a{/entity}", "/apps/b%2Fc{/entity}", "/apps/d{/entity}");
+    }
+
+    @Test
+    void expandEachRow() {
+        var template = parser.parseUnchecked("/apps/%{application.id}{/entity}{?page}");
+
+        var output = new ArrayList<String>();
+        template.expandEach(REPLACER, List.of(Map.of("entity", "persons"), Map.of("entity", "invoices", "page", 3)),
+                expanded -> output.add(expanded.toString()));
+
+        assertThat(output).containsExactly("/apps/app%201/persons", "/apps/app%201/invoices?page=3");
+    }
+
+    @Test
+    void expandEachRowReplacesSubstitutionsOnce() {
+        var template = parser.parseUnchecked("/apps/%{application.id}/x{/entity}/%{application.id}");
+        var replacements = new AtomicInteger();
+
+        var output = new ArrayList<String>();
+        template.expandEach(substitutionVariable -> "app " + replacements.incrementAndGet(),
+                List.of(Map.of("entity", "persons"), Map.of(), Map.of("entity", "invoices")),
+                expanded -> output.add(expanded.toString()));
+
+        assertThat(output).containsExactly("/apps/app%201/x/persons/app%202", "/apps/app%201/x/app%202",
+                "/apps/app%201/x/invoices/app%202");
+        assertThat(replacements).hasValue(2);
+    }
+
+    @Test
+    void expandToAppendable() throws IOException {
+        var template = parser.parseUnchecked("/apps/%{application.id}{/entity}");
+
+        var writer = new StringWriter();
+        template.expandTo(writer, REPLACER);
+        writer.append(' ');
+        template.expandTo(writer, REPLACER, Map.of("entity", "persons"));
+
+        assertThat(writer).hasToString("/apps/app%201{/entity} /apps/app%201/persons");
+    }
+
+    @Test
+    void expandToAppendableWritesDirectly() {
+        var template = parser.parseUnchecked("/apps/%{application.id}{/entity}{?page}");
+        var written = new StringBuilder();
+        Appendable failing = new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq) throws IOException {
+                return append(csq, 0, csq.length());
+            }
+
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) throws IOException {
+                for (int i = start; i < end; i++) {
+                    append(csq.charAt(i));
+                }
+                return this;
+            }
+
+            @Override
+            public Appendable append(char c) throws IOException {
+                if (c == '?') {
+                    throw new IOException("closed");
+                }
+                written.append(c);
+                return this;
+            }
+        };
+
+        assertThatThrownBy(() -> template.expandTo(failing, REPLACER, Map.of("entity", "persons", "page", 1)))
+                .isInstanceOf(IOException.class);
+        // everything up to the failure has already been written
+        assertThat(written).hasToString("/apps/app%201/persons");
+    }
+
+    @Test
+    void writeJson() {
+        var template = parser.parseUnchecked("/apps/%{application.id}{?page}");
+
+        var writer = new StringWriter();
+        try (var generator = new JsonFactory().createGenerator(writer)) {
+            generator.writeStartObject();
+            UriTemplateJsonWriter.writeStringProperty(generator, "href", template, REPLACER);
+            generator.writeName("items");
+            generator.writeStartArray();
+            UriTemplateJsonWriter.writeString(generator, template, substitutionVariable -> "\"quoted\"");
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+
+        assertThat(writer).hasToString("{\"href\":\"/apps/app%201{?page}\",\"items\":[\"/apps/%22quoted%22{?page}\"]}");
+    }
+
+    static Stream<Arguments> rfc6570Examples() {
+        return Stream.of(
+                // Section 3.2.1: Variable Expansion
+                Arguments.of("{count}", "one,two,three"),
+                Arguments.of("{count*}", "one,two,three"),
+                Arguments.of("{/count}", "/one,two,three"),
+                Arguments.of("{/count*}", "/one/two/three"),
+                Arguments.of("{;count}", ";count=one,two,three"),
+                Arguments.of("{;count*}", ";count=one;count=two;count=three"),
+                Arguments.of("{?count}", "?count=one,two,three"),
+                Arguments.of("{?count*}", "?count=one&count=two&count=three"),
+                Arguments.of("{&count*}", "&count=one&count=two&count=three"),
+
+                // Section 3.2.2: Simple String Expansion
+                Arguments.of("{var}", "value"),
+                Arguments.of("{hello}", "Hello%20World%21"),
+                Arguments.of("{half}", "50%25"),
+                Arguments.of("O{empty}X", "OX"),
+                Arguments.of("O{undef}X", "OX"),
+                Arguments.of("{x,y}", "1024,768"),
+                Arguments.of("{x,hello,y}", "1024,Hello%20World%21,768"),
+                Arguments.of("?{x,empty}", "?1024,"),
+                Arguments.of("?{x,undef}", "?1024"),
+                Arguments.of("?{undef,y}", "?768"),
+                Arguments.of("{var:3}", "val"),
+                Arguments.of("{var:30}", "value"),
+                Arguments.of("{list}", "red,green,blue"),
+                Arguments.of("{list*}", "red,green,blue"),
+                Arguments.of("{keys}", "semi,%3B,dot,.,comma,%2C"),
+                Arguments.of("{keys*}", "semi=%3B,dot=.,comma=%2C"),
+
+                // Section 3.2.3: Reserved Expansion
+                Arguments.of("{+var}", "value"),
+                Arguments.of("{+hello}", "Hello%20World!"),
+                Arguments.of("{+half}", "50%25"),
+                Arguments.of("{base}index", "http%3A%2F%2Fexample.com%2Fhome%2Findex"),
+                Arguments.of("{+base}index", "http://example.com/home/index"),
+                Arguments.of("O{+empty}X", "OX"),
+                Arguments.of("O{+undef}X", "OX"),
+                Arguments.of("{+path}/here", "/foo/bar/here"),
+                Arguments.of("here?ref={+path}", "here?ref=/foo/bar"),
+                Arguments.of("up{+path}{var}/here", "up/foo/barvalue/here"),
+                Arguments.of("{+x,hello,y}", "1024,Hello%20World!,768"),
+                Arguments.of("{+path,x}/here", "/foo/bar,1024/here"),
+                Arguments.of("{+path:6}/here", "/foo/b/here"),
+                Arguments.of("{+list}", "red,green,blue"),
+                Arguments.of("{+list*}", "red,green,blue"),
+                Arguments.of("{+keys}", "semi,;,dot,.,comma,,"),
+                Arguments.of("{+keys*}", "semi=;,dot=.,comma=,"),
+
+                // Section 3.2.4: Fragment Expansion
+                Arguments.of("{#var}", "#value"),
+                Arguments.of("{#hello}", "#Hello%20World!"),
+                Arguments.of("{#half}", "#50%25"),
+                Arguments.of("foo{#empty}", "foo#"),
+                Arguments.of("foo{#undef}", "foo"),
+                Arguments.of("{#x,hello,y}", "#1024,Hello%20World!,768"),
+                Arguments.of("{#path,x}/here", "#/foo/bar,1024/here"),
+                Arguments.of("{#path:6}/here", "#/foo/b/here"),
+                Arguments.of("{#list}", "#red,green,blue"),
+                Arguments.of("{#list*}", "#red,green,blue"),
+                Arguments.of("{#keys}", "#semi,;,dot,.,comma,,"),
+                Arguments.of("{#keys*}", "#semi=;,dot=.,comma=,"),
+
+                // Section 3.2.5: Label Expansion with Dot-Prefix
+                Arguments.of("{.who}", ".fred"),
+                Arguments.of("{.who,who}", ".fred.fred"),
+                Arguments.of("{.half,who}", ".50%25.fred"),
+                Arguments.of("www{.dom*}", "www.example.com"),
+                Arguments.of("X{.var}", "X.value"),
+                Arguments.of("X{.empty}", "X."),
+                Arguments.of("X{.undef}", "X"),
+                Arguments.of("X{.var:3}", "X.val"),
+                Arguments.of("X{.list}", "X.red,green,blue"),
+                Arguments.of("X{.list*}", "X.red.green.blue"),
+                Arguments.of("X{.keys}", "X.semi,%3B,dot,.,comma,%2C"),
+                Arguments.of("X{.keys*}", "X.semi=%3B.dot=..comma=%2C"),
+                Arguments.of("X{.empty_keys}", "X"),
+                Arguments.of("X{.empty_keys*}", "X"),
+
+                // Section 3.2.6: Path Segment Expansion
+                Arguments.of("{/who}", "/fred"),
+                Arguments.of("{/who,who}", "/fred/fred"),
+                Arguments.of("{/half,who}", "/50%25/fred"),
+                Arguments.of("{/who,dub}", "/fred/me%2Ftoo"),
+                Arguments.of("{/var}", "/value"),
+                Arguments.of("{/var,empty}", "/value/"),
+                Arguments.of("{/var,undef}", "/value"),
+                Arguments.of("{/var,x}/here", "/value/1024/here"),
+                Arguments.of("{/var:1,var}", "/v/value"),
+                Arguments.of("{/list}", "/red,green,blue"),
+                Arguments.of("{/list*}", "/red/green/blue"),
+                Arguments.of("{/list*,path:4}", "/red/green/blue/%2Ffoo"),
+                Arguments.of("{/keys}", "/semi,%3B,dot,.,comma,%2C"),
+                Arguments.of("{/keys*}", "/semi=%3B/dot=./comma=%2C"),
+
+                // Section 3.2.7: Path-Style Parameter Expansion
+                Arguments.of("{;who}", ";who=fred"),
+                Arguments.of("{;half}", ";half=50%25"),
+                Arguments.of("{;empty}", ";empty"),
+                Arguments.of("{;v,empty,who}", ";v=6;empty;who=fred"),
+                Arguments.of("{;v,bar,who}", ";v=6;who=fred"),
+                Arguments.of("{;x,y}", ";x=1024;y=768"),
+                Arguments.of("{;x,y,empty}", ";x=1024;y=768;empty"),
+                Arguments.of("{;x,y,undef}", ";x=1024;y=768"),
+                Arguments.of("{;hello:5}", ";hello=Hello"),
+                Arguments.of("{;list}", ";list=red,green,blue"),
+                Arguments.of("{;list*}", ";list=red;list=green;list=blue"),
+                Arguments.of("{;keys}", ";keys=semi,%3B,dot,.,comma,%2C"),
+                Arguments.of("{;keys*}", ";semi=%3B;dot=.;comma=%2C"),
+
+                // Section 3.2.8: Form-Style Query Expansion
+                Arguments.of("{?who}", "?who=fred"),
+                Arguments.of("{?half}", "?half=50%25"),
+                Arguments.of("{?x,y}", "?x=1024&y=768"),
+                Arguments.of("{?x,y,empty}", "?x=1024&y=768&empty="),
+                Arguments.of("{?x,y,undef}", "?x=1024&y=768"),
+                Arguments.of("{?var:3}", "?var=val"),
+                Arguments.of("{?list}", "?list=red,green,blue"),
+                Arguments.of("{?list*}", "?list=red&list=green&list=blue"),
+                Arguments.of("{?keys}", "?keys=semi,%3B,dot,.,comma,%2C"),
+                Arguments.of("{?keys*}", "?semi=%3B&dot=.&comma=%2C"),
+
+                // Section 3.2.9: Form-Style Query Continuation
+                Arguments.of("{&who}", "&who=fred"),
+                Arguments.of("{&half}", "&half=50%25"),
+                Arguments.of("?fixed=yes{&x}", "?fixed=yes&x=1024"),
+                Arguments.of("{&x,y,empty}", "&x=1024&y=768&empty="),
+                Arguments.of("{&var:3}", "&var=val"),
+                Arguments.of("{&list}", "&list=red,green,blue"),
+                Arguments.of("{&list*}", "&list=red&list=green&list=blue"),
+                Arguments.of("{&keys}", "&keys=semi,%3B,dot,.,comma,%2C"),
+                Arguments.of("{&keys*}", "&semi=%3B&dot=.&comma=%2C")
+        );
+    }
+}
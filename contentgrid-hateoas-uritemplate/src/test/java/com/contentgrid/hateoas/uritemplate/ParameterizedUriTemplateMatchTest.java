@@ -0,0 +1,122 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplateParserTest.TestSubstitutionParameters;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ParameterizedUriTemplateMatchTest {
+
+    private final ParameterizedUriTemplateParser<TestSubstitutionParameters> parser = new ParameterizedUriTemplateParser<>(
+            EnumSet.allOf(TestSubstitutionParameters.class)
+    );
+
+    @Test
+    void matchSubstitutionsAndExpressions() {
+        var template = parser.parseUnchecked("https://example.com/apps/%{application.id}/items{/entity}{?page,size}");
+
+        var match = template.match("https://example.com/apps/app%201/items/persons?page=2");
+
+        assertThat(match).hasValueSatisfying(m -> {
+            assertThat(m.getSubstitutions()).isEqualTo(Map.of(TestSubstitutionParameters.APPLICATION_ID, "app 1"));
+            assertThat(m.getVariables()).isEqualTo(Map.of("entity", "persons", "page", "2"));
+        });
+    }
+
+    @Test
+    void matchWithoutOptionalExpressions() {
+        var template = parser.parseUnchecked("/apps/%{application.id}/items{/entity}{?page,size}");
+
+        var match = template.match("/apps/abc/items");
+
+        assertThat(match).hasValueSatisfying(m -> {
+            assertThat(m.getSubstitutions()).isEqualTo(Map.of(TestSubstitutionParameters.APPLICATION_ID, "abc"));
+            assertThat(m.getVariables()).isEmpty();
+        });
+    }
+
+    @Test
+    void matchRepeatedSubstitution() {
+        var template = parser.parseUnchecked("/%{application.id}/%{application.id}");
+
+        assertThat(template.match("/abc/abc")).hasValueSatisfying(m -> assertThat(m.getSubstitutions())
+                .isEqualTo(Map.of(TestSubstitutionParameters.APPLICATION_ID, "abc")));
+        assertThat(template.match("/abc/def")).isEmpty();
+    }
+
+    @Test
+    void matchExpandedTemplate() {
+        var template = parser.parseUnchecked("/apps/%{application.id}{/entity,id}{?q}");
+        var expanded = template.expand(variable -> "é/x", Map.of("entity", "persons", "id", "a b",
+                "q", "x&y"));
+
+        assertThat(template.match(expanded)).hasValueSatisfying(m -> {
+            assertThat(m.getSubstitutions()).isEqualTo(Map.of(TestSubstitutionParameters.APPLICATION_ID, "é/x"));
+            assertThat(m.getVariables()).isEqualTo(Map.of("entity", "persons", "id", "a b", "q", "x&y"));
+        });
+    }
+
+    @Test
+    void matchExpandedTemplateWithEncodedLiterals() {
+        var template = parser.parseUnchecked("/café x/%{application.id}{?q}");
+        var expanded = template.expand(variable -> "a", Map.of("q", "1"));
+
+        assertThat(expanded).isEqualTo("/caf%C3%A9%20x/a?q=1");
+        assertThat(template.match(expanded)).hasValueSatisfying(m -> {
+            assertThat(m.getSubstitutions()).isEqualTo(Map.of(TestSubstitutionParameters.APPLICATION_ID, "a"));
+            assertThat(m.getVariables()).isEqualTo(Map.of("q", "1"));
+        });
+        assertThat(template.match("/café x/a?q=1")).isEmpty();
+    }
+
+    @ParameterizedTest(name = "{0} <- {1}")
+    @MethodSource
+    void matchVariables(String template, String uri, Map<String, String> expected) {
+        assertThat(parser.parseUnchecked(template).match(uri))
+                .hasValueSatisfying(m -> assertThat(m.getVariables()).isEqualTo(expected));
+    }
+
+    static Stream<Arguments> matchVariables() {
+        return Stream.of(
+                Arguments.of("{var}", "value", Map.of("var", "value")),
+                Arguments.of("{x,y}", "1024,768", Map.of("x", "1024", "y", "768")),
+                Arguments.of("{+path}/here", "/foo/bar/here", Map.of("path", "/foo/bar")),
+                Arguments.of("X{#var}", "X#value", Map.of("var", "value")),
+                Arguments.of("X{.x,y}", "X.1024.768", Map.of("x", "1024", "y", "768")),
+                Arguments.of("{/list*}", "/red/green/blue", Map.of("list", "red,green,blue")),
+                Arguments.of("{/list}", "/red,green,blue", Map.of("list", "red,green,blue")),
+                Arguments.of("X{.list*}", "X.red.green.blue", Map.of("list", "red,green,blue")),
+                Arguments.of("{/x,list*}", "/1024/red/green", Map.of("x", "1024", "list", "red,green")),
+                Arguments.of("{/list*,x}", "/red/green", Map.of("list", "red", "x", "green")),
+                Arguments.of("{+list*}", "red,green,blue", Map.of("list", "red,green,blue")),
+                // undefined variables are omitted from the expansion, so values shift to the first variables
+                Arguments.of("{x,y}", "768", Map.of("x", "768")),
+                Arguments.of("{;x,y,empty}", ";x=1024;y=768;empty", Map.of("x", "1024", "y", "768", "empty", "")),
+                Arguments.of("{?list*}", "?list=red&list=green&list=blue", Map.of("list", "red,green,blue")),
+                Arguments.of("?fixed=yes{&x}", "?fixed=yes&x=1024", Map.of("x", "1024")),
+                Arguments.of("/items{?page}", "/items?page=2&other=1", Map.of("page", "2"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0} <- {1}")
+    @MethodSource
+    void noMatch(String template, String uri) {
+        assertThat(parser.parseUnchecked(template).match(uri)).isEmpty();
+    }
+
+    static Stream<Arguments> noMatch() {
+        return Stream.of(
+                Arguments.of("/apps/%{application.id}", "/other/abc"),
+                Arguments.of("/apps/%{application.id}", "/apps/abc/items"),
+                Arguments.of("/apps/%{application.id}/items", "/apps/abc/other"),
+                Arguments.of("/apps{/id}", "/apps?id=1"),
+                Arguments.of("/apps", "/apps/")
+        );
+    }
+}
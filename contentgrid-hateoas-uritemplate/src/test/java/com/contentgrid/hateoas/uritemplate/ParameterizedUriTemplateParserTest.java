@@ -94,6 +94,134 @@ class ParameterizedUriTemplateParserTest {
         })).isEqualTo("https://example.com/test?app=%26%23%24%2F%3D");
     }
 
+    @Test
+    void expandPercentEncoded() {
+        var template = parser.parseUnchecked("/apps/%{application.id}");
+        assertThat(template.expand(substitutionVariable -> "a b+c~d*{é}"))
+                .isEqualTo("/apps/a%20b%2Bc~d%2A%7B%C3%A9%7D");
+
+        // values that do not need encoding are not copied
+        var plainValue = "app-123";
+        assertThat(SubstitutionUriTemplatePart.encode(plainValue)).isSameAs(plainValue);
+    }
+
+    @Test
+    void expandKeepsExpressions() {
+        var template = parser.parseUnchecked("/apps/%{application.id}{/entity}/items{?page,size}#%{application.id}");
+        assertThat(template.expand(substitutionVariable -> "app-1"))
+                .isEqualTo("/apps/app-1{/entity}/items{?page,size}#app-1");
+    }
+
+    @Test
+    void expandWithoutSubstitutions() {
+        var template = parser.parseUnchecked("/apps{/entity}/items{?page,size}");
+        assertThat(template.expand(substitutionVariable -> {
+            throw new AssertionError("No substitution variables to replace");
+        })).isEqualTo("/apps{/entity}/items{?page,size}");
+    }
+
+    @Test
+    void internedParse() throws InvalidUriTemplateException {
+        var interner = new UriTemplateInterner();
+        var interningParser = parser.withInterner(interner);
+
+        var template = interningParser.parse("/apps/%{application.id}/items{?page}");
+        assertThat(interningParser.parse("/apps/%{application.id}/items{?page}")).isSameAs(template);
+        assertThat(interner.intern(parser.parse("/apps/%{application.id}/items{?page}"))).isSameAs(template);
+
+        // Different templates share their equal parts
+        var other = interningParser.parse("/apps/%{application.id}/other{?page}");
+        assertThat(other.getParts().get(1)).isSameAs(template.getParts().get(1));
+        assertThat(other.getParts().get(3)).isSameAs(template.getParts().get(3));
+        assertThat(other.getParts().get(2)).isNotSameAs(template.getParts().get(2));
+
+        assertThat(interner.getTemplateCount()).isEqualTo(2);
+        assertThat(interner.getPartCount()).isEqualTo(5);
+
+        assertThat(template.toTemplate()).isEqualTo("/apps/%{application.id}/items{?page}");
+        assertThat(other.toTemplate()).isEqualTo("/apps/%{application.id}/other{?page}");
+        assertThat(other.expand(substitutionVariable -> "app")).isEqualTo("/apps/app/other{?page}");
+    }
+
+    @Test
+    void tryParse() throws InvalidUriTemplateException {
+        var valid = parser.tryParse("/apps/%{application.id}{?page}");
+        assertThat(valid.isValid()).isTrue();
+        assertThat(valid.getTemplate()).contains(parser.parse("/apps/%{application.id}{?page}"));
+        assertThat(valid.getErrorPosition()).isEmpty();
+
+        var invalid = parser.tryParse("/apps/%{application.name}");
+        assertThat(invalid.isValid()).isFalse();
+        assertThat(invalid.getTemplate()).isEmpty();
+        assertThat(invalid.getErrorPosition()).hasValue(8);
+        assertThat(invalid.getErrorDescription()).hasValue("Substitution must be any of 'application.id'");
+        assertThatThrownBy(invalid::getOrThrow).isInstanceOf(InvalidUriTemplateException.class);
+    }
+
+    @Test
+    void validate() {
+        var valid = parser.validate("/apps/%{application.id}{?page}");
+        assertThat(valid.isValid()).isTrue();
+        assertThat(valid.getTemplate()).isEmpty();
+        assertThat(valid.getError()).isEmpty();
+
+        var invalid = parser.validate("/apps{?page");
+        assertThat(invalid.isValid()).isFalse();
+        assertThat(invalid.getErrorPosition()).hasValue(11);
+        assertThat(invalid.getError()).hasValueSatisfying(error -> {
+            assertThat(error.getStackTrace()).isEmpty();
+            assertThat(error.getMessage()).isEqualTo(String.join(System.lineSeparator(),
+                    "Invalid URI template at position 11: Expected '}', but got EOF",
+                    "/apps{?page",
+                    "           ^"));
+        });
+        assertThat(parser.withAllowTemplateVariables(false).validate("/apps{?page}").isValid()).isFalse();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("brokenUriTemplatePatterns")
+    void tryParseAndValidateReportSameError(String pattern, int position) {
+        assertThat(parser.tryParse(pattern).getErrorPosition()).hasValue(position);
+        assertThat(parser.validate(pattern).getErrorPosition()).hasValue(position);
+    }
+
+    @Test
+    void cachedParse() throws InvalidUriTemplateException {
+        var cachingParser = parser.withCache(10);
+        assertThat(parser.getCacheStatistics()).isEmpty();
+
+        var template = cachingParser.parse("/apps/%{application.id}{?page}");
+        assertThat(cachingParser.parse("/apps/%{application.id}{?page}")).isSameAs(template);
+
+        // Parser settings are part of the cache key
+        var noVariablesParser = cachingParser.withAllowTemplateVariables(false);
+        assertThatThrownBy(() -> noVariablesParser.parse("/apps/%{application.id}{?page}"))
+                .isInstanceOf(InvalidUriTemplateException.class);
+
+        assertThat(cachingParser.getCacheStatistics()).hasValueSatisfying(statistics -> {
+            assertThat(statistics.hitCount()).isEqualTo(1);
+            assertThat(statistics.missCount()).isEqualTo(2);
+            assertThat(statistics.size()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void cachedParseIsBounded() {
+        var cachingParser = parser.withCache(10);
+
+        for (int i = 0; i < 100; i++) {
+            cachingParser.parseUnchecked("/items/" + i);
+            cachingParser.parseUnchecked("/items/0");
+        }
+
+        assertThat(cachingParser.getCacheStatistics()).hasValueSatisfying(statistics -> {
+            assertThat(statistics.size()).isEqualTo(10);
+            assertThat(statistics.evictionCount()).isEqualTo(90);
+            // the frequently used template is never evicted
+            assertThat(statistics.hitCount()).isEqualTo(100);
+        });
+    }
+
     public static Stream<Arguments> standardUriTemplatePatterns() {
         return Stream.of(
                 Arguments.of("{var}",
@@ -162,6 +290,8 @@ class ParameterizedUriTemplateParserTest {
                         List.of(new ExpressionUriTemplatePart(Operator.SIMPLE, "nested.access")))),
                 Arguments.of("{underscore_var}", new ParameterizedUriTemplate<>(
                         List.of(new ExpressionUriTemplatePart(Operator.SIMPLE, "underscore_var")))),
+                Arguments.of("{CamelCase.Var%2F2}", new ParameterizedUriTemplate<>(
+                        List.of(new ExpressionUriTemplatePart(Operator.SIMPLE, "CamelCase.Var%2F2")))),
                 Arguments.of("%{application.id}", new ParameterizedUriTemplate<>(
                         List.of(new SubstitutionUriTemplatePart<>(TestSubstitutionParameters.APPLICATION_ID)))),
                 Arguments.of("/just/a/static/path",
@@ -182,7 +312,19 @@ class ParameterizedUriTemplateParserTest {
                 Arguments.of("{?.abc}", 1),
                 Arguments.of("{?abc", 5),
                 Arguments.of("{?./", 1),
-                Arguments.of("%{invalid_variable}", 2)
+                Arguments.of("%{invalid_variable}", 2),
+                Arguments.of("%{application.id", 2),
+                Arguments.of("X{", 2),
+                Arguments.of("{+}", 1),
+                Arguments.of("{a,}", 3),
+                Arguments.of("{a.}", 2),
+                Arguments.of("{a,b", 4),
+                Arguments.of("{ab:}", 4),
+                Arguments.of("{ab:9", 5),
+                Arguments.of("{ab:0}", 4),
+                Arguments.of("{ab:10000}", 4),
+                Arguments.of("{ab:99999999999}", 4),
+                Arguments.of("{a%2}", 2)
 
         );
     }
@@ -0,0 +1,106 @@
+package com.contentgrid.hateoas.uritemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contentgrid.hateoas.uritemplate.ParameterizedUriTemplateParserTest.TestSubstitutionParameters;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+class UriTemplateCatalogTest {
+
+    private final ParameterizedUriTemplateParser<TestSubstitutionParameters> parser = new ParameterizedUriTemplateParser<>(
+            EnumSet.allOf(TestSubstitutionParameters.class)
+    );
+
+    @Test
+    void loadCatalog() throws InvalidUriTemplateException {
+        Map<String, String> templates = new LinkedHashMap<>();
+        for (int i = 0; i < 500; i++) {
+            templates.put("template-" + i, "/apps/%{application.id}/items/" + i + "{?page}");
+        }
+
+        var catalog = new UriTemplateCatalogLoader<>(parser).load(templates);
+
+        assertThat(catalog.getNames()).containsExactlyElementsOf(templates.keySet());
+        assertThat(catalog.getFailures()).isEmpty();
+        assertThat(catalog.get("template-42")).isEqualTo(parser.parse("/apps/%{application.id}/items/42{?page}"));
+        assertThatThrownBy(() -> catalog.get("unknown")).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void reportsAllFailures() {
+        Map<String, String> templates = new LinkedHashMap<>();
+        templates.put("valid", "/apps/%{application.id}");
+        templates.put("unknown-substitution", "/apps/%{application.name}");
+        templates.put("unclosed-expression", "/apps{?page");
+
+        var catalog = new UriTemplateCatalogLoader<>(parser)
+                .withExecutor(Executors.newFixedThreadPool(2))
+                .load(templates);
+
+        assertThat(catalog.getFailures()).containsOnlyKeys("unknown-substitution", "unclosed-expression");
+        assertThat(catalog.getFailures().get("unknown-substitution").getPosition()).isEqualTo(8);
+        assertThat(catalog.getFailures().get("unclosed-expression").getPosition()).isEqualTo(11);
+        assertThatThrownBy(catalog::ensureValid)
+                .isInstanceOfSatisfying(InvalidUriTemplateCatalogException.class, e -> {
+                    assertThat(e.getFailures()).containsOnlyKeys("unknown-substitution", "unclosed-expression");
+                    assertThat(e.getMessage()).startsWith("2 invalid URI template(s)");
+                });
+        assertThatThrownBy(() -> catalog.get("unclosed-expression"))
+                .isSameAs(catalog.getFailures().get("unclosed-expression"));
+    }
+
+    @Test
+    void collectsUnexpectedParseFailures() {
+        var failingParser = new ParameterizedUriTemplateParser<>(EnumSet.allOf(TestSubstitutionParameters.class)) {
+            @Override
+            public ParameterizedUriTemplate<TestSubstitutionParameters> parse(String template)
+                    throws InvalidUriTemplateException {
+                if (template.contains("explode")) {
+                    throw new IllegalStateException("boom");
+                }
+                return super.parse(template);
+            }
+        };
+        Map<String, String> templates = new LinkedHashMap<>();
+        templates.put("valid", "/apps/%{application.id}");
+        templates.put("overflowing-prefix", "/items{?q:99999999999}");
+        templates.put("runtime-failure", "/explode");
+
+        var catalog = new UriTemplateCatalogLoader<>(failingParser)
+                .withExecutor(Executors.newFixedThreadPool(2))
+                .load(templates);
+
+        assertThat(catalog.getFailures()).containsOnlyKeys("overflowing-prefix", "runtime-failure");
+        assertThat(catalog.getFailures().get("runtime-failure"))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("boom");
+        assertThatThrownBy(catalog::ensureValid)
+                .isInstanceOfSatisfying(InvalidUriTemplateCatalogException.class, e ->
+                        assertThat(e.getFailures()).containsOnlyKeys("overflowing-prefix", "runtime-failure"));
+        assertThatThrownBy(() -> catalog.get("runtime-failure"))
+                .isSameAs(catalog.getFailures().get("runtime-failure"));
+    }
+
+    @Test
+    void lazyTemplatesAreParsedOnFirstAccess() throws InvalidUriTemplateException {
+        Map<String, String> templates = new LinkedHashMap<>();
+        templates.put("frequent", "/apps/%{application.id}");
+        templates.put("rare", "/apps{?page");
+
+        var catalog = new UriTemplateCatalogLoader<>(parser)
+                .withLazy(name -> name.equals("rare"))
+                .load(templates);
+
+        assertThat(catalog.getFailures()).isEmpty();
+        assertThat(catalog.get("frequent").toTemplate()).isEqualTo("/apps/%{application.id}");
+
+        assertThatThrownBy(() -> catalog.get("rare")).isInstanceOf(InvalidUriTemplateException.class);
+        assertThat(catalog.getFailures()).containsOnlyKeys("rare");
+    }
+}
@@ -28,6 +28,14 @@ public interface Pagination {
         return this.getLimit() != null;
     }
 
+    /**
+     * Returns a pagination for the same position in the result-set, with a different limit
+     *
+     * @param limit the maximum number of items on a page
+     * @return a pagination with the given limit
+     */
+    Pagination withLimit(int limit);
+
     static Pagination unpaged() {
         return Unpaged.instance();
     }
@@ -45,9 +53,7 @@ public interface Pagination {
     }
 
     static Pagination from(PaginationParameters parameters) {
-        return PaginationSystemLoader.select(parameters)
-                .map(system -> system.create(parameters))
-                .orElse(Pagination.unpaged());
+        return PaginationSystemRegistry.getDefault().create(parameters);
     }
 
     @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -61,6 +67,11 @@ public interface Pagination {
             return this.limit;
         }
 
+        @Override
+        public Pagination withLimit(int limit) {
+            return new PageLimit(limit);
+        }
+
         @Override
         public Optional<?> getReference() {
             return Optional.empty();
@@ -111,6 +122,11 @@ public interface Pagination {
             return true;
         }
 
+        @Override
+        public Pagination withLimit(int limit) {
+            return Pagination.limit(limit);
+        }
+
         @Override
         public Pagination current() {
             return this;
@@ -0,0 +1,20 @@
+package com.contentgrid.hateoas.pagination.api;
+
+import java.util.List;
+
+/**
+ * Creates the {@link PaginationControls} for a page of items, once it is known whether there is a next page
+ *
+ * @param <T> The type of the items on the page
+ * @see Slice#overfetched(List, Pagination, PaginationControlsFactory)
+ */
+@FunctionalInterface
+public interface PaginationControlsFactory<T> {
+
+    /**
+     * @param content the items on the page, without the overfetched item
+     * @param hasNext {@literal true} if there are more items after this page
+     * @return the controls to navigate from the page
+     */
+    PaginationControls create(List<T> content, boolean hasNext);
+}
@@ -2,6 +2,8 @@ package com.contentgrid.hateoas.pagination.api;
 
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.function.Function;
 import lombok.NonNull;
 
@@ -13,16 +15,52 @@ public class PaginationParameters {
         this.params = Map.copyOf(parameters);
     }
 
+    /**
+     * Constructor for implementations that override {@link #containsKey(String)}, {@link #getFirstValue(String)} and
+     * {@link #getAllValues(String)} to look up parameters themselves
+     */
+    protected PaginationParameters() {
+        this.params = Map.of();
+    }
+
+    /**
+     * Creates parameters that are read from a raw (still encoded) query string, without copying or parsing it upfront.
+     * <p>
+     * Only the parameters that are asked for are located and decoded, when they are asked for.
+     *
+     * @param queryString the query string of a request, without the leading {@code ?}. May be {@literal null}
+     * @return the parameters in the query string
+     */
+    public static PaginationParameters fromQueryString(String queryString) {
+        return new QueryStringPaginationParameters(queryString == null ? "" : queryString);
+    }
+
     public boolean containsKey(String key) {
         return this.params.containsKey(key);
     }
 
-    public <T> T getValue(@NonNull String key, @NonNull Function<String, T> convert, T defaultValue) {
+    /**
+     * @param key the name of the parameter
+     * @return the first value of the parameter, or {@literal null} if the parameter is absent
+     */
+    protected String getFirstValue(String key) {
         var list = this.params.get(key);
         if (list == null || list.isEmpty()) {
-            return defaultValue;
+            return null;
         }
-        var value = list.get(0);
+        return list.get(0);
+    }
+
+    /**
+     * @param key the name of the parameter
+     * @return all values of the parameter, or an empty list if the parameter is absent
+     */
+    protected List<String> getAllValues(String key) {
+        return this.params.getOrDefault(key, List.of());
+    }
+
+    public <T> T getValue(@NonNull String key, @NonNull Function<String, T> convert, T defaultValue) {
+        var value = this.getFirstValue(key);
         if (value == null) {
             return defaultValue;
         }
@@ -35,8 +73,8 @@ public class PaginationParameters {
     }
 
     public <T> List<T> getValues(@NonNull String key, @NonNull Function<String, T> convert) {
-        var list = this.params.get(key);
-        if (list == null || list.isEmpty()) {
+        var list = this.getAllValues(key);
+        if (list.isEmpty()) {
             return List.of();
         }
 
@@ -55,5 +93,39 @@ public class PaginationParameters {
         return this.getValue(key, Long::parseLong, defaultValue);
     }
 
+    /**
+     * @param key the name of the parameter
+     * @return the first value of the parameter as an {@code int}, or empty if it is absent or not a valid number
+     */
+    public OptionalInt getInt(@NonNull String key) {
+        var value = this.getFirstValue(key);
+        if (value == null) {
+            return OptionalInt.empty();
+        }
+
+        try {
+            return OptionalInt.of(Integer.parseInt(value));
+        } catch (NumberFormatException ex) {
+            return OptionalInt.empty();
+        }
+    }
+
+    /**
+     * @param key the name of the parameter
+     * @return the first value of the parameter as a {@code long}, or empty if it is absent or not a valid number
+     */
+    public OptionalLong getLong(@NonNull String key) {
+        var value = this.getFirstValue(key);
+        if (value == null) {
+            return OptionalLong.empty();
+        }
+
+        try {
+            return OptionalLong.of(Long.parseLong(value));
+        } catch (NumberFormatException ex) {
+            return OptionalLong.empty();
+        }
+    }
+
 
 }
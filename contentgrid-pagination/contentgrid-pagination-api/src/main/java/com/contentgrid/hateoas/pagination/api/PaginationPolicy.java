@@ -0,0 +1,162 @@
+package com.contentgrid.hateoas.pagination.api;
+
+import java.util.function.Consumer;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.With;
+
+/**
+ * Guard-rails that {@link PaginationSystem}s apply to the pagination that clients request
+ * <p>
+ * A policy limits the page size, provides a page size when the client does not request one and limits how deep
+ * offset-based pagination can go. Every time a requested value is changed, the {@link #getListener() listener} is
+ * notified with an {@link Adjustment}.
+ *
+ * <pre>
+ *     var registry = new PaginationSystemRegistry(systems).setPolicy(PaginationPolicy.unrestricted()
+ *             .withDefaultLimit(20)
+ *             .withMaxLimit(100)
+ *             .withMaxOffset(10_000L));
+ * </pre>
+ */
+@Value
+@With
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PaginationPolicy {
+
+    private static final PaginationPolicy UNRESTRICTED = new PaginationPolicy(null, null, null,
+            OffsetOverflow.REJECT, adjustment -> {
+    });
+
+    /**
+     * The page size to use when the client does not request one. May be {@literal null} for unlimited pages.
+     */
+    Integer defaultLimit;
+
+    /**
+     * The maximum page size. Larger page sizes are reduced to this value. May be {@literal null} for no maximum.
+     */
+    Integer maxLimit;
+
+    /**
+     * The maximum offset for offset-based pagination. May be {@literal null} for no maximum.
+     */
+    Long maxOffset;
+
+    /**
+     * What to do with offsets beyond {@link #getMaxOffset()}
+     */
+    @NonNull
+    OffsetOverflow offsetOverflow;
+
+    /**
+     * Notified of every requested value that the policy changes
+     */
+    @NonNull
+    Consumer<Adjustment> listener;
+
+    /**
+     * @return a policy that accepts every request as it is
+     */
+    public static PaginationPolicy unrestricted() {
+        return UNRESTRICTED;
+    }
+
+    /**
+     * Applies the policy to a requested page size
+     *
+     * @param requested the requested page size. May be {@literal null} when the client did not request one
+     * @return the page size to use. May be {@literal null} for an unlimited page
+     */
+    public Integer applyLimit(Integer requested) {
+        var limit = requested != null ? requested : this.defaultLimit;
+
+        if (limit != null && limit < 1) {
+            limit = 1;
+        }
+        if (this.maxLimit != null && (limit == null || limit > this.maxLimit)) {
+            limit = this.maxLimit;
+        }
+
+        // without a requested page size, only report when the default page size could not be used
+        var adjusted = requested != null ? !requested.equals(limit) : limit != null && !limit.equals(this.defaultLimit);
+        if (adjusted) {
+            this.listener.accept(new Adjustment(Adjustment.LIMIT, requested, limit));
+        }
+        return limit;
+    }
+
+    /**
+     * Applies the policy to a requested offset
+     *
+     * @param requested the requested offset
+     * @return the offset to use
+     * @throws PaginationPolicyViolationException when the offset exceeds the maximum offset and
+     *         {@link #getOffsetOverflow()} is {@link OffsetOverflow#REJECT}
+     */
+    public long applyOffset(long requested) {
+        var offset = Math.max(requested, 0L);
+
+        if (this.maxOffset != null && offset > this.maxOffset) {
+            if (this.offsetOverflow == OffsetOverflow.REJECT) {
+                throw new PaginationPolicyViolationException(
+                        "Offset %d exceeds the maximum offset of %d".formatted(requested, this.maxOffset));
+            }
+            offset = this.maxOffset;
+        }
+
+        if (offset != requested) {
+            this.listener.accept(new Adjustment(Adjustment.OFFSET, requested, offset));
+        }
+        return offset;
+    }
+
+    /**
+     * @return the pagination to use when no pagination system matches the request
+     */
+    public Pagination unpaged() {
+        var limit = this.applyLimit(null);
+        return limit == null ? Pagination.unpaged() : Pagination.limit(limit);
+    }
+
+    public enum OffsetOverflow {
+        /**
+         * Reject the request with a {@link PaginationPolicyViolationException}
+         */
+        REJECT,
+
+        /**
+         * Use the maximum offset instead
+         */
+        CLAMP
+    }
+
+    /**
+     * A requested value that was changed by the policy
+     */
+    @Value
+    public static class Adjustment {
+
+        public static final String LIMIT = "limit";
+        public static final String OFFSET = "offset";
+
+        /**
+         * The kind of value that was changed, {@link #LIMIT} or {@link #OFFSET}
+         */
+        @NonNull
+        String parameter;
+
+        /**
+         * The requested value. May be {@literal null} when the client did not request a value
+         */
+        Number requested;
+
+        /**
+         * The value that is used instead
+         */
+        @NonNull
+        Number applied;
+    }
+}
@@ -0,0 +1,11 @@
+package com.contentgrid.hateoas.pagination.api;
+
+/**
+ * Thrown when a requested pagination is not allowed by the {@link PaginationPolicy}
+ */
+public class PaginationPolicyViolationException extends IllegalArgumentException {
+
+    public PaginationPolicyViolationException(String message) {
+        super(message);
+    }
+}
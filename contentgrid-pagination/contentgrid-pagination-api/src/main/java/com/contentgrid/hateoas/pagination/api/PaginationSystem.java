@@ -1,11 +1,29 @@
 package com.contentgrid.hateoas.pagination.api;
 
+import java.util.Set;
+
 public interface PaginationSystem {
 
     boolean matches(PaginationParameters parameters);
 
     Pagination create(PaginationParameters parameters);
 
+    /**
+     * Creates the pagination for the parameters, within the limits of the policy.
+     *
+     * <p>Implementations should override this method to apply the policy; the default implementation ignores it.
+     * {@link PaginationSystemRegistry#create(PaginationParameters)} still keeps the limit of the returned pagination
+     * within the policy, but can not apply the default limit or the offset restrictions.
+     *
+     * @param parameters the pagination parameters
+     * @param policy the policy to apply to the requested pagination
+     * @return the pagination
+     * @throws PaginationPolicyViolationException when the requested pagination is rejected by the policy
+     */
+    default Pagination create(PaginationParameters parameters, PaginationPolicy policy) {
+        return this.create(parameters);
+    }
+
     /**
      * Defines the order in which this paginatinon-system is considered. Lower values have higher priority.
      *
@@ -16,4 +34,17 @@ public interface PaginationSystem {
     default int getPriority() {
         return 0;
     }
+
+    /**
+     * Defines the parameter keys that this pagination-system claims. {@link #matches(PaginationParameters)} is only
+     * called when at least one of these keys is present in the parameters.
+     *
+     * <p>Default is an empty set, which means {@link #matches(PaginationParameters)} is always called.
+     *
+     * @return the claimed parameter keys
+     * @see PaginationSystemRegistry
+     */
+    default Set<String> getParameterKeys() {
+        return Set.of();
+    }
 }
@@ -0,0 +1,370 @@
+package com.contentgrid.hateoas.pagination.api;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.NonNull;
+
+/**
+ * Registry of {@link PaginationSystem}s, sorted by {@link PaginationSystem#getPriority() priority}
+ * <p>
+ * Systems are sorted once, when they are registered, instead of on every {@link #select(PaginationParameters)}.
+ * Systems that declare {@link PaginationSystem#getParameterKeys() parameter keys} are indexed by those keys, so
+ * {@link PaginationSystem#matches(PaginationParameters)} is only called on systems that claim one of the parameters
+ * that are present (and on systems that do not declare any keys).
+ * <p>
+ * The {@link #getDefault() default registry}, populated by {@link ServiceLoader} from the classloader that loaded
+ * this class, is the same on every thread and is kept for the lifetime of that classloader. Systems and policies
+ * that are added to it programmatically are never lost.
+ * <p>
+ * The registry for another classloader, obtained with {@link #forClassLoader(ClassLoader)}, is shared by all callers
+ * using the same classloader. Looking it up does not take a lock. It is only softly referenced, so it does not keep a
+ * classloader that is no longer used (e.g. of an undeployed application) from being collected, and it is loaded
+ * again when it was cleared. Because it can be reloaded, such a registry can not be modified: programmatic
+ * registration requires a registry that you own, created with one of the constructors.
+ */
+public final class PaginationSystemRegistry {
+
+    private static final ClassLoader OWN_CLASS_LOADER = PaginationSystemRegistry.class.getClassLoader() != null
+            ? PaginationSystemRegistry.class.getClassLoader() : ClassLoader.getSystemClassLoader();
+
+    private static final ConcurrentMap<LoaderKey, SoftReference<PaginationSystemRegistry>> REGISTRIES =
+            new ConcurrentHashMap<>();
+
+    private static final ReferenceQueue<ClassLoader> COLLECTED_LOADERS = new ReferenceQueue<>();
+
+    private final Object lock = new Object();
+
+    private final List<PaginationSystem> registered = new ArrayList<>();
+
+    private volatile Index index = Index.EMPTY;
+
+    private volatile PaginationPolicy policy = PaginationPolicy.unrestricted();
+
+    // copy-on-write, replaced under the lock
+    private volatile Map<PaginationSystem, PaginationPolicy> systemPolicies = Map.of();
+
+    // a softly referenced registry of another classloader, which is loaded again after it has been cleared
+    private final boolean reloadable;
+
+    /**
+     * Creates an empty registry; systems are added with {@link #register(PaginationSystem)}
+     */
+    public PaginationSystemRegistry() {
+        this.reloadable = false;
+    }
+
+    /**
+     * Creates a registry containing the given systems
+     *
+     * @param systems The systems to register
+     */
+    public PaginationSystemRegistry(@NonNull Iterable<? extends PaginationSystem> systems) {
+        this(systems, false);
+    }
+
+    private PaginationSystemRegistry(Iterable<? extends PaginationSystem> systems, boolean reloadable) {
+        this.reloadable = reloadable;
+        synchronized (this.lock) {
+            systems.forEach(this::add);
+        }
+    }
+
+    /**
+     * Returns the registry of the classloader that loaded this class
+     * <p>
+     * The default registry does not depend on the context classloader of the current thread, so every thread sees
+     * the same systems and policy.
+     *
+     * @return The default registry
+     * @see #forClassLoader(ClassLoader)
+     */
+    public static PaginationSystemRegistry getDefault() {
+        return OwnClassLoaderHolder.REGISTRY;
+    }
+
+    /**
+     * Returns the registry for a classloader
+     * <p>
+     * The {@link PaginationSystem} services visible to the classloader are loaded the first time the registry for that
+     * classloader is requested. For the classloader that loaded this class, this is the {@link #getDefault() default
+     * registry}. The registry of any other classloader can not be modified, because it may be loaded again.
+     *
+     * @param classLoader The classloader used to load {@link PaginationSystem} services
+     * @return The registry for the classloader
+     */
+    public static PaginationSystemRegistry forClassLoader(@NonNull ClassLoader classLoader) {
+        if (classLoader == OWN_CLASS_LOADER) {
+            return OwnClassLoaderHolder.REGISTRY;
+        }
+
+        var existing = REGISTRIES.get(new LoaderKey(classLoader, null));
+        var registry = existing != null ? existing.get() : null;
+        if (registry != null) {
+            return registry;
+        }
+
+        purgeCollectedLoaders();
+        var result = new PaginationSystemRegistry[1];
+        REGISTRIES.compute(new LoaderKey(classLoader, COLLECTED_LOADERS), (key, reference) -> {
+            result[0] = reference != null ? reference.get() : null;
+            if (result[0] != null) {
+                return reference;
+            }
+            // the previous registry was cleared to reclaim memory, or this is the first request
+            result[0] = new PaginationSystemRegistry(ServiceLoader.load(PaginationSystem.class, classLoader), true);
+            return new SoftReference<>(result[0]);
+        });
+        return result[0];
+    }
+
+    private static void purgeCollectedLoaders() {
+        for (Reference<?> key; (key = COLLECTED_LOADERS.poll()) != null; ) {
+            REGISTRIES.remove(key);
+        }
+    }
+
+    /**
+     * Adds a system to the registry
+     * <p>
+     * Systems with the same priority are considered in the order in which they were registered.
+     * Registering a system that is already present has no effect.
+     *
+     * @param system The system to add
+     * @return this registry
+     * @throws IllegalStateException when this is the registry of {@link #forClassLoader(ClassLoader) another
+     *         classloader}
+     */
+    public PaginationSystemRegistry register(@NonNull PaginationSystem system) {
+        this.checkModifiable();
+        synchronized (this.lock) {
+            this.add(system);
+        }
+        return this;
+    }
+
+    // must hold the lock
+    private void add(PaginationSystem system) {
+        for (var existing : this.registered) {
+            if (existing == system) {
+                return;
+            }
+        }
+        this.registered.add(system);
+        this.index = Index.build(this.registered);
+    }
+
+    private void checkModifiable() {
+        if (this.reloadable) {
+            throw new IllegalStateException("The registry of another classloader can not be modified, "
+                    + "because it may be loaded again; create a registry with new PaginationSystemRegistry(...)");
+        }
+    }
+
+    /**
+     * @return The policy that is applied when creating a {@link Pagination}
+     */
+    public PaginationPolicy getPolicy() {
+        return this.policy;
+    }
+
+    /**
+     * @param system The pagination system
+     * @return The policy that is applied when the system creates a {@link Pagination}: the policy that was set for the
+     *         system, or else the {@link #getPolicy() policy of the registry}
+     */
+    public PaginationPolicy getPolicy(@NonNull PaginationSystem system) {
+        var systemPolicy = this.systemPolicies.get(system);
+        return systemPolicy != null ? systemPolicy : this.policy;
+    }
+
+    /**
+     * Sets the policy that is applied when creating a {@link Pagination}
+     *
+     * @param policy The policy
+     * @return this registry
+     * @throws IllegalStateException when this is the registry of {@link #forClassLoader(ClassLoader) another
+     *         classloader}
+     */
+    public PaginationSystemRegistry setPolicy(@NonNull PaginationPolicy policy) {
+        this.checkModifiable();
+        this.policy = policy;
+        return this;
+    }
+
+    /**
+     * Sets the policy that is applied when a specific system creates a {@link Pagination}, instead of the
+     * {@link #getPolicy() policy of the registry}
+     * <p>
+     * For example, cursor pagination can allow larger pages than offset pagination, because its pages do not get more
+     * expensive the deeper they are.
+     *
+     * @param system The pagination system
+     * @param policy The policy for the system
+     * @return this registry
+     * @throws IllegalStateException when this is the registry of {@link #forClassLoader(ClassLoader) another
+     *         classloader}
+     */
+    public PaginationSystemRegistry setPolicy(@NonNull PaginationSystem system, @NonNull PaginationPolicy policy) {
+        this.checkModifiable();
+        synchronized (this.lock) {
+            var policies = new IdentityHashMap<>(this.systemPolicies);
+            policies.put(system, policy);
+            this.systemPolicies = Collections.unmodifiableMap(policies);
+        }
+        return this;
+    }
+
+    /**
+     * @return The registered systems, in the order in which they are considered
+     */
+    public List<PaginationSystem> getSystems() {
+        return this.index.systems;
+    }
+
+    /**
+     * Selects the system with the highest priority that matches the parameters
+     *
+     * @param parameters The pagination parameters
+     * @return The matching system, or empty if no system matches the parameters
+     */
+    public Optional<PaginationSystem> select(@NonNull PaginationParameters parameters) {
+        var current = this.index;
+        var candidates = (BitSet) current.unkeyed.clone();
+        current.keyed.forEach((key, systems) -> {
+            if (parameters.containsKey(key)) {
+                candidates.or(systems);
+            }
+        });
+
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            var system = current.systems.get(i);
+            if (system.matches(parameters)) {
+                return Optional.of(system);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Creates a {@link Pagination} with the system that matches the parameters, applying the
+     * {@link #getPolicy(PaginationSystem) policy} of that system
+     * <p>
+     * The limit of the created pagination is checked against the policy, so a system that does not apply the policy
+     * itself can not exceed the maximum limit: the limit is clamped with {@link Pagination#withLimit(int)}.
+     *
+     * @param parameters The pagination parameters
+     * @return The pagination created by the matching system, or {@link PaginationPolicy#unpaged()} if no system
+     *         matches
+     * @throws PaginationPolicyViolationException when the requested pagination is rejected by the policy
+     */
+    public Pagination create(@NonNull PaginationParameters parameters) {
+        return this.select(parameters)
+                .map(system -> {
+                    var systemPolicy = this.getPolicy(system);
+                    return enforceLimit(system.create(parameters, systemPolicy), systemPolicy);
+                })
+                .orElseGet(() -> this.policy.unpaged());
+    }
+
+    private static Pagination enforceLimit(Pagination pagination, PaginationPolicy policy) {
+        var limit = pagination.getLimit();
+        var maxLimit = policy.getMaxLimit();
+        var withinPolicy = limit == null
+                ? maxLimit == null
+                : limit >= 1 && (maxLimit == null || limit <= maxLimit);
+        if (withinPolicy) {
+            return pagination;
+        }
+
+        return pagination.withLimit(policy.applyLimit(limit));
+    }
+
+    private static final class OwnClassLoaderHolder {
+
+        // this registry only references classes of the classloader that also loaded the registry itself
+        private static final PaginationSystemRegistry REGISTRY = new PaginationSystemRegistry(
+                ServiceLoader.load(PaginationSystem.class, OWN_CLASS_LOADER));
+    }
+
+    /**
+     * Weak reference to a classloader that compares by the identity of the classloader
+     */
+    private static final class LoaderKey extends WeakReference<ClassLoader> {
+
+        private final int hash;
+
+        private LoaderKey(ClassLoader classLoader, ReferenceQueue<ClassLoader> queue) {
+            super(classLoader, queue);
+            this.hash = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof LoaderKey other)) {
+                return false;
+            }
+            var classLoader = this.get();
+            return classLoader != null && classLoader == other.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * Immutable snapshot of the sorted systems, with the positions of the systems indexed by parameter key
+     */
+    private static final class Index {
+
+        private static final Index EMPTY = new Index(List.of(), new BitSet(), Map.of());
+
+        private final List<PaginationSystem> systems;
+        private final BitSet unkeyed;
+        private final Map<String, BitSet> keyed;
+
+        private Index(List<PaginationSystem> systems, BitSet unkeyed, Map<String, BitSet> keyed) {
+            this.systems = systems;
+            this.unkeyed = unkeyed;
+            this.keyed = keyed;
+        }
+
+        static Index build(List<PaginationSystem> registered) {
+            var systems = new ArrayList<>(registered);
+            // List.sort is stable, so registration order is kept for systems with the same priority
+            systems.sort(Comparator.comparingInt(PaginationSystem::getPriority));
+
+            var unkeyed = new BitSet(systems.size());
+            var keyed = new HashMap<String, BitSet>();
+            for (int i = 0; i < systems.size(); i++) {
+                var keys = systems.get(i).getParameterKeys();
+                if (keys.isEmpty()) {
+                    unkeyed.set(i);
+                }
+                for (var key : keys) {
+                    keyed.computeIfAbsent(key, k -> new BitSet()).set(i);
+                }
+            }
+
+            return new Index(Collections.unmodifiableList(systems), unkeyed, Map.copyOf(keyed));
+        }
+    }
+}
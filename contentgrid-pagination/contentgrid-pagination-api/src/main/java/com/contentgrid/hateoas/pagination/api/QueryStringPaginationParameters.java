@@ -0,0 +1,113 @@
+package com.contentgrid.hateoas.pagination.api;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link PaginationParameters} that are looked up in a raw query string every time they are asked for
+ * <p>
+ * Query strings are short and only a few pagination parameters are asked for, so scanning is cheaper than splitting
+ * and decoding the whole query string into a map.
+ */
+final class QueryStringPaginationParameters extends PaginationParameters {
+
+    private final String query;
+
+    QueryStringPaginationParameters(String query) {
+        this.query = query;
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return this.indexOf(key, 0) >= 0;
+    }
+
+    @Override
+    protected String getFirstValue(String key) {
+        var start = this.indexOf(key, 0);
+        return start < 0 ? null : this.valueAt(start);
+    }
+
+    @Override
+    protected List<String> getAllValues(String key) {
+        var values = new ArrayList<String>();
+        for (int start = this.indexOf(key, 0); start >= 0; start = this.indexOf(key, this.endOf(start) + 1)) {
+            values.add(this.valueAt(start));
+        }
+        return values;
+    }
+
+    /**
+     * Finds the next parameter with the given name
+     *
+     * @param key the decoded name of the parameter
+     * @param from the position in the query string to start searching
+     * @return the position where the parameter starts, or {@code -1} if there is no such parameter
+     */
+    private int indexOf(String key, int from) {
+        var length = this.query.length();
+        for (int start = from, end; start < length; start = end + 1) {
+            end = this.endOf(start);
+            int nameEnd = this.separatorOf(start, end);
+
+            if (nameEnd - start == key.length() && this.query.startsWith(key, start)) {
+                return start;
+            }
+            if (this.isEncoded(start, nameEnd) && key.equals(decode(this.query.substring(start, nameEnd)))) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    private int endOf(int start) {
+        int end = this.query.indexOf('&', start);
+        return end < 0 ? this.query.length() : end;
+    }
+
+    /**
+     * @return the position of the first {@code '='} between start and end, or end if there is none
+     */
+    private int separatorOf(int start, int end) {
+        // String.indexOf() can not be bounded, and would scan the rest of the query string for every parameter
+        for (int i = start; i < end; i++) {
+            if (this.query.charAt(i) == '=') {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private String valueAt(int start) {
+        int end = this.endOf(start);
+        int separator = this.separatorOf(start, end);
+        if (separator == end) {
+            // a parameter without value, like "?offset"
+            return "";
+        }
+        return this.isEncoded(separator + 1, end)
+                ? decode(this.query.substring(separator + 1, end))
+                : this.query.substring(separator + 1, end);
+    }
+
+    private boolean isEncoded(int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = this.query.charAt(i);
+            if (c == '%' || c == '+') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            // malformed escape sequence: use the value as it is
+            return value;
+        }
+    }
+}
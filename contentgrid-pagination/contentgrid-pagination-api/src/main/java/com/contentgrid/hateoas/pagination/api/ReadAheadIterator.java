@@ -0,0 +1,247 @@
+package com.contentgrid.hateoas.pagination.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.NonNull;
+
+/**
+ * Iterates over the items of all pages of a result-set, fetching the next pages while the current page is processed
+ * <p>
+ * Pages are fetched one after the other on a background task, following {@link Slice#next()} from the starting
+ * {@link Pagination}. At most {@code prefetchPages} fetched pages are buffered; when the buffer is full, the
+ * background task holds on to the page it fetched last and pauses until the consumer catches up.
+ * <p>
+ * An exception thrown while fetching a page is rethrown from {@link #hasNext()} once the items of the preceding pages
+ * have been consumed. {@link #close() Closing} the iterator stops fetching; iterators that are not consumed until the
+ * end must be closed.
+ *
+ * <pre>
+ *     try (var items = ReadAheadIterator.start(Pagination.limit(500), repository::findAll, 2).stream()) {
+ *         items.forEach(exporter::write);
+ *     }
+ * </pre>
+ *
+ * @param <T> The type of the items
+ */
+public final class ReadAheadIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private static final Page<?> END = new Page<>(null, null);
+
+    private final BlockingQueue<Page<T>> pages;
+
+    private final FutureTask<Void> producer;
+
+    private final ExecutorService ownedExecutor;
+
+    private Iterator<T> current = Collections.emptyIterator();
+
+    private Slice<T> currentSlice;
+
+    private boolean done;
+
+    private volatile boolean closed;
+
+    private ReadAheadIterator(Pagination start, Function<? super Pagination, ? extends Slice<T>> fetchPage,
+            int prefetchPages, Executor executor, ExecutorService ownedExecutor) {
+        if (prefetchPages < 1) {
+            throw new IllegalArgumentException("prefetchPages must be at least 1");
+        }
+        this.pages = new ArrayBlockingQueue<>(prefetchPages);
+        this.ownedExecutor = ownedExecutor;
+        this.producer = new FutureTask<>(() -> this.fetchAll(start, fetchPage), null);
+        executor.execute(this.producer);
+    }
+
+    /**
+     * Starts fetching pages on a dedicated thread, which is a virtual thread when the runtime supports them
+     *
+     * @param start the pagination of the first page
+     * @param fetchPage fetches the page for a pagination
+     * @param prefetchPages the maximum number of fetched pages that are buffered ahead of the consumer
+     * @return an iterator over the items of all pages
+     */
+    public static <T> ReadAheadIterator<T> start(@NonNull Pagination start,
+            @NonNull Function<? super Pagination, ? extends Slice<T>> fetchPage, int prefetchPages) {
+        var executor = newDefaultExecutor();
+        return new ReadAheadIterator<>(start, fetchPage, prefetchPages, executor, executor);
+    }
+
+    /**
+     * Starts fetching pages on the given executor
+     * <p>
+     * Fetching occupies one task of the executor until all pages have been fetched or the iterator is closed.
+     *
+     * @param start the pagination of the first page
+     * @param fetchPage fetches the page for a pagination
+     * @param prefetchPages the maximum number of fetched pages that are buffered ahead of the consumer
+     * @param executor the executor that runs the fetching task
+     * @return an iterator over the items of all pages
+     */
+    public static <T> ReadAheadIterator<T> start(@NonNull Pagination start,
+            @NonNull Function<? super Pagination, ? extends Slice<T>> fetchPage, int prefetchPages,
+            @NonNull Executor executor) {
+        return new ReadAheadIterator<>(start, fetchPage, prefetchPages, executor, null);
+    }
+
+    /**
+     * @return a sequential {@link Stream} of the remaining items, which closes this iterator when it is closed
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.current.hasNext()) {
+            if (this.done) {
+                return false;
+            }
+
+            var page = this.take();
+            if (page == END) {
+                this.done = true;
+                this.close();
+                return false;
+            }
+            if (page.error() != null) {
+                this.done = true;
+                this.close();
+                throw rethrow(page.error());
+            }
+            closeSlice(this.currentSlice);
+            this.currentSlice = page.slice();
+            this.current = this.currentSlice.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return this.current.next();
+    }
+
+    /**
+     * Stops fetching pages and discards the current page and the pages that have not been consumed yet
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.done = true;
+        this.producer.cancel(true);
+
+        closeSlice(this.currentSlice);
+        this.current = Collections.emptyIterator();
+        this.discardPages();
+
+        if (this.ownedExecutor != null) {
+            this.ownedExecutor.shutdownNow();
+        }
+    }
+
+    private void fetchAll(Pagination start, Function<? super Pagination, ? extends Slice<T>> fetchPage) {
+        // the page that has been fetched, but not handed over to the consumer yet
+        Slice<T> pending = null;
+        try {
+            var pagination = start;
+            while (pagination != null && !this.closed) {
+                pending = fetchPage.apply(pagination);
+                pagination = pending.next().orElse(null);
+                this.pages.put(new Page<>(pending, null));
+                pending = null;
+            }
+            this.pages.put(end());
+        } catch (InterruptedException e) {
+            // closed while waiting for the consumer
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error e) {
+            try {
+                this.pages.put(new Page<>(null, e));
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            closeSlice(pending);
+            // close() may have drained the queue before the last page was put in it
+            if (this.closed) {
+                this.discardPages();
+            }
+        }
+    }
+
+    private void discardPages() {
+        var discarded = new ArrayList<Page<T>>();
+        this.pages.drainTo(discarded);
+        for (var page : discarded) {
+            closeSlice(page.slice());
+        }
+    }
+
+    private Page<T> take() {
+        try {
+            return this.pages.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.close();
+            throw new IllegalStateException("Interrupted while waiting for the next page", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Page<T> end() {
+        return (Page<T>) END;
+    }
+
+    private static RuntimeException rethrow(Throwable error) {
+        if (error instanceof Error e) {
+            throw e;
+        }
+        return (RuntimeException) error;
+    }
+
+    private static void closeSlice(Slice<?> slice) {
+        if (slice instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                // the page is done with or discarded, so failing to release it is not reported
+            }
+        }
+    }
+
+    private static ExecutorService newDefaultExecutor() {
+        try {
+            // Virtual threads are only available from Java 21
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newSingleThreadExecutor(runnable -> {
+                var thread = new Thread(runnable, "pagination-read-ahead");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private record Page<T>(Slice<T> slice, Throwable error) {
+
+    }
+}
@@ -1,9 +1,21 @@
 package com.contentgrid.hateoas.pagination.api;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.NonNull;
 
 /**
@@ -29,6 +41,13 @@ public interface Slice<T> extends Iterable<T>, PaginationControls {
         return this.getContent().iterator();
     }
 
+    /**
+     * @return a sequential {@link Stream} of the slice content
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
     /**
      * Returns the number of elements currently on this {@link Slice}.
      *
@@ -45,6 +64,28 @@ public interface Slice<T> extends Iterable<T>, PaginationControls {
         return this.getPagination().getLimit();
     }
 
+    /**
+     * Returns the total number of items in the result-set that this slice is part of, if a count was attached with
+     * {@link #withTotalCount(CompletionStage)}.
+     * <p>
+     * The count is computed asynchronously, so it may not be available yet.
+     *
+     * @return the pending or completed total count, or empty if this slice has no count
+     */
+    default Optional<CompletionStage<TotalCount>> getTotalCount() {
+        return Optional.empty();
+    }
+
+    /**
+     * Attaches a total count to this slice
+     *
+     * @param totalCount the pending or completed total count, see {@link TotalCountCache}
+     * @return a slice with the same content and controls as this slice, and the total count
+     */
+    default Slice<T> withTotalCount(@NonNull CompletionStage<TotalCount> totalCount) {
+        return new CountedSlice<>(this, totalCount);
+    }
+
     static <T> Slice<T> empty() {
         return new DefaultSlice<>(List.of(), PaginationControls.unpaged());
     }
@@ -57,11 +98,98 @@ public interface Slice<T> extends Iterable<T>, PaginationControls {
         return new DefaultSlice<>(contents, pagination);
     }
 
-    default <U> Slice<U> map(Function<? super T, U> converter) {
-        return Slice.from(
-               this.getContent().stream().map(converter).toList(),
-               this
-        );
+    /**
+     * Creates a {@link Slice} from items that were fetched with one item more than the limit of the pagination.
+     * <p>
+     * The extra item only indicates that there is a next page, so no separate count or exists query is needed. It is
+     * not part of the slice content, which is a view of the first {@code limit} items that is not copied.
+     * <p>
+     * When the pagination has no limit, all items are part of the slice and there is no next page.
+     *
+     * @param rows the items that were fetched, up to {@code limit + 1}
+     * @param pagination the pagination that was used to fetch the items
+     * @param controls creates the pagination controls, depending on whether there is a next page
+     * @return a slice with at most {@code limit} items
+     */
+    static <T> Slice<T> overfetched(@NonNull List<T> rows, @NonNull Pagination pagination,
+            @NonNull PaginationControlsFactory<T> controls) {
+        var limit = pagination.getLimit();
+        var hasNext = limit != null && rows.size() > limit;
+        var content = hasNext ? rows.subList(0, limit) : rows;
+
+        return new OverfetchedSlice<>(content, controls.create(content, hasNext));
+    }
+
+    /**
+     * Creates a {@link Slice} that reads its content from a {@link Stream}, without materializing it.
+     * <p>
+     * The content can be consumed only once, and no more than the limit of the current pagination is read from the
+     * stream. The stream is closed when the content has been consumed, or when the slice is
+     * {@link StreamingSlice#close() closed}.
+     *
+     * @param contents the source of the slice content
+     * @param pagination the controls to navigate from this slice
+     * @return a single-use streaming slice
+     * @see StreamingSlice
+     */
+    static <T> StreamingSlice<T> streaming(@NonNull Stream<T> contents, @NonNull PaginationControls pagination) {
+        return new StreamingSlice<>(contents.iterator(), contents::close, pagination);
+    }
+
+    /**
+     * Creates a {@link Slice} that reads its content from an {@link Iterator}, without materializing it.
+     * <p>
+     * The content can be consumed only once, and no more than the limit of the current pagination is read from the
+     * iterator.
+     *
+     * @param contents the source of the slice content
+     * @param pagination the controls to navigate from this slice
+     * @return a single-use streaming slice
+     * @see StreamingSlice
+     */
+    static <T> StreamingSlice<T> streaming(@NonNull Iterator<T> contents, @NonNull PaginationControls pagination) {
+        return new StreamingSlice<>(contents, () -> {}, pagination);
+    }
+
+    /**
+     * Returns a slice with the converter applied to its content.
+     * <p>
+     * All items are converted before this method returns, into a single new list.
+     *
+     * @param converter the function that converts an item
+     * @return a slice with the converted content
+     * @see #mapView(Function)
+     */
+    default <U> Slice<U> map(@NonNull Function<? super T, U> converter) {
+        return new MappedSlice<>(MappedSlice.convert(this.getContent(), converter), this);
+    }
+
+    /**
+     * Returns a view of this slice with the converter applied to its content.
+     * <p>
+     * The content is not copied: the converter is applied every time an item of the view is accessed. This suits
+     * content that is iterated once, with a converter that is cheap and has no side effects.
+     *
+     * @param converter the function that converts an item
+     * @return a mapped view of this slice
+     * @see #map(Function)
+     */
+    default <U> Slice<U> mapView(@NonNull Function<? super T, U> converter) {
+        return new MappedSlice<>(new MappedSlice.MappedList<>(this.getContent(), converter), this);
+    }
+
+    /**
+     * Returns a slice with the converter applied to its content, converting the items in parallel on the executor.
+     * <p>
+     * The items keep their order. All items are converted before this method returns, so the converter is applied only
+     * once to every item. When the converter throws, that exception is rethrown.
+     *
+     * @param converter the function that converts an item
+     * @param executor the executor to run the conversions on
+     * @return a slice with the converted content
+     */
+    default <U> Slice<U> map(@NonNull Function<? super T, U> converter, @NonNull Executor executor) {
+        return new MappedSlice<>(MappedSlice.convertParallel(this.getContent(), converter, executor), this);
     }
 
     class DefaultSlice<T> implements Slice<T> {
@@ -109,4 +237,471 @@ public interface Slice<T> extends Iterable<T>, PaginationControls {
         }
     }
 
+    /**
+     * A {@link Slice} with a {@link TotalCount}, that delegates everything else to another slice
+     *
+     * @see Slice#withTotalCount(CompletionStage)
+     */
+    class CountedSlice<T> implements Slice<T> {
+
+        private final Slice<T> delegate;
+
+        private final CompletionStage<TotalCount> totalCount;
+
+        CountedSlice(@NonNull Slice<T> delegate, @NonNull CompletionStage<TotalCount> totalCount) {
+            this.delegate = delegate;
+            this.totalCount = totalCount;
+        }
+
+        @Override
+        public Optional<CompletionStage<TotalCount>> getTotalCount() {
+            return Optional.of(this.totalCount);
+        }
+
+        @Override
+        public Slice<T> withTotalCount(@NonNull CompletionStage<TotalCount> totalCount) {
+            return new CountedSlice<>(this.delegate, totalCount);
+        }
+
+        @Override
+        public List<T> getContent() {
+            return this.delegate.getContent();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return this.delegate.iterator();
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return this.delegate.stream();
+        }
+
+        @Override
+        public int getSize() {
+            return this.delegate.getSize();
+        }
+
+        @Override
+        public <U> Slice<U> map(@NonNull Function<? super T, U> converter) {
+            return new CountedSlice<>(this.delegate.map(converter), this.totalCount);
+        }
+
+        @Override
+        public <U> Slice<U> mapView(@NonNull Function<? super T, U> converter) {
+            return new CountedSlice<>(this.delegate.mapView(converter), this.totalCount);
+        }
+
+        @Override
+        public <U> Slice<U> map(@NonNull Function<? super T, U> converter, @NonNull Executor executor) {
+            return new CountedSlice<>(this.delegate.map(converter, executor), this.totalCount);
+        }
+
+        @Override
+        public Pagination getPagination() {
+            return this.delegate.getPagination();
+        }
+
+        @Override
+        public Pagination current() {
+            return this.delegate.current();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.delegate.hasNext();
+        }
+
+        @Override
+        public Optional<Pagination> next() {
+            return this.delegate.next();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return this.delegate.hasPrevious();
+        }
+
+        @Override
+        public Optional<Pagination> previous() {
+            return this.delegate.previous();
+        }
+
+        @Override
+        public Pagination first() {
+            return this.delegate.first();
+        }
+    }
+
+    /**
+     * A {@link Slice} that exposes a view of the fetched items, without the item that was only fetched to detect a next
+     * page. The content is not copied.
+     *
+     * @see Slice#overfetched(List, Pagination, PaginationControlsFactory)
+     */
+    class OverfetchedSlice<T> implements Slice<T> {
+
+        private final List<T> content;
+
+        private final PaginationControls controls;
+
+        public OverfetchedSlice(@NonNull List<T> content, @NonNull PaginationControls controls) {
+            this.content = Collections.unmodifiableList(content);
+            this.controls = controls;
+        }
+
+        @Override
+        public List<T> getContent() {
+            return this.content;
+        }
+
+        @Override
+        public Pagination getPagination() {
+            return this.controls.current();
+        }
+
+        @Override
+        public Pagination current() {
+            return this.controls.current();
+        }
+
+        @Override
+        public Optional<Pagination> next() {
+            return this.controls.next();
+        }
+
+        @Override
+        public Optional<Pagination> previous() {
+            return this.controls.previous();
+        }
+
+        @Override
+        public Pagination first() {
+            return this.controls.first();
+        }
+    }
+
+    /**
+     * A {@link Slice} with converted content, that shares the {@link PaginationControls} of the slice it was mapped from
+     */
+    class MappedSlice<U> implements Slice<U> {
+
+        private final List<U> content;
+
+        private final PaginationControls controls;
+
+        MappedSlice(@NonNull List<U> content, @NonNull PaginationControls controls) {
+            this.content = content;
+            this.controls = controls;
+        }
+
+        @Override
+        public List<U> getContent() {
+            return this.content;
+        }
+
+        @Override
+        public Pagination getPagination() {
+            return this.controls.current();
+        }
+
+        @Override
+        public Pagination current() {
+            return this.controls.current();
+        }
+
+        @Override
+        public Optional<Pagination> next() {
+            return this.controls.next();
+        }
+
+        @Override
+        public Optional<Pagination> previous() {
+            return this.controls.previous();
+        }
+
+        @Override
+        public Pagination first() {
+            return this.controls.first();
+        }
+
+        static <T, U> List<U> convert(List<T> source, Function<? super T, U> converter) {
+            @SuppressWarnings("unchecked")
+            var results = (U[]) new Object[source.size()];
+            int i = 0;
+            for (var item : source) {
+                results[i++] = converter.apply(item);
+            }
+            return Collections.unmodifiableList(Arrays.asList(results));
+        }
+
+        static <T, U> List<U> convertParallel(List<T> source, Function<? super T, U> converter, Executor executor) {
+            var size = source.size();
+            @SuppressWarnings("unchecked")
+            var results = (U[]) new Object[size];
+
+            // Contiguous chunks keep the number of tasks small, while every item is still converted exactly once
+            var chunks = Math.min(size, Runtime.getRuntime().availableProcessors());
+            var futures = new CompletableFuture<?>[chunks];
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int from = (int) ((long) size * chunk / chunks);
+                int to = (int) ((long) size * (chunk + 1) / chunks);
+                futures[chunk] = CompletableFuture.runAsync(() -> {
+                    for (int i = from; i < to; i++) {
+                        results[i] = converter.apply(source.get(i));
+                    }
+                }, executor);
+            }
+
+            try {
+                CompletableFuture.allOf(futures).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+
+            return Collections.unmodifiableList(Arrays.asList(results));
+        }
+
+        /**
+         * Read-only view of a list, that converts items when they are accessed
+         */
+        private static final class MappedList<T, U> extends AbstractList<U> {
+
+            private final List<T> source;
+
+            private final Function<? super T, U> converter;
+
+            private MappedList(List<T> source, Function<? super T, U> converter) {
+                this.source = source;
+                this.converter = converter;
+            }
+
+            @Override
+            public U get(int index) {
+                return this.converter.apply(this.source.get(index));
+            }
+
+            @Override
+            public int size() {
+                return this.source.size();
+            }
+
+            @Override
+            public Iterator<U> iterator() {
+                var iterator = this.source.iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public U next() {
+                        return MappedList.this.converter.apply(iterator.next());
+                    }
+                };
+            }
+        }
+    }
+
+    /**
+     * A {@link Slice} backed by a lazy source, which is consumed exactly once
+     * <p>
+     * {@link #iterator()}, {@link #stream()} and {@link #map(Function)} read the source lazily, so the slice content
+     * never has to be held in memory. They can only be used once; using the content again throws an
+     * {@link IllegalStateException}.
+     * <p>
+     * {@link #getContent()} and {@link #getSize()} materialize the remaining content, which can afterwards be accessed
+     * any number of times. The {@link PaginationControls} are available without touching the content.
+     */
+    class StreamingSlice<T> implements Slice<T>, AutoCloseable {
+
+        private final Iterator<T> source;
+
+        private final Runnable onClose;
+
+        private final PaginationControls controls;
+
+        private final AtomicBoolean consumed = new AtomicBoolean();
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private final CompletionStage<TotalCount> totalCount;
+
+        private volatile List<T> content;
+
+        StreamingSlice(@NonNull Iterator<T> source, @NonNull Runnable onClose, @NonNull PaginationControls controls) {
+            this(source, onClose, controls, null);
+        }
+
+        private StreamingSlice(Iterator<T> source, Runnable onClose, PaginationControls controls,
+                CompletionStage<TotalCount> totalCount) {
+            this.source = source;
+            this.onClose = onClose;
+            this.controls = controls;
+            this.totalCount = totalCount;
+        }
+
+        @Override
+        public Optional<CompletionStage<TotalCount>> getTotalCount() {
+            return Optional.ofNullable(this.totalCount);
+        }
+
+        /**
+         * Returns a {@link StreamingSlice} with the total count, that is still read lazily and closed like this slice.
+         * <p>
+         * The returned slice takes over the source of this slice, so only the returned slice should be used afterwards.
+         */
+        @Override
+        public StreamingSlice<T> withTotalCount(@NonNull CompletionStage<TotalCount> totalCount) {
+            return new StreamingSlice<>(this.iterator(), this::close, this.controls, totalCount);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            var materialized = this.content;
+            if (materialized != null) {
+                return materialized.iterator();
+            }
+            this.consume();
+            return new LimitingIterator();
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return Slice.super.stream().onClose(this::close);
+        }
+
+        /**
+         * Returns the slice content as a {@link List}, reading all remaining items from the source.
+         *
+         * @return the slice content as a {@link List}.
+         * @throws IllegalStateException when the content has already been consumed lazily
+         */
+        @Override
+        public List<T> getContent() {
+            var materialized = this.content;
+            if (materialized == null) {
+                synchronized (this) {
+                    materialized = this.content;
+                    if (materialized == null) {
+                        this.consume();
+                        var list = new ArrayList<T>();
+                        new LimitingIterator().forEachRemaining(list::add);
+                        materialized = Collections.unmodifiableList(list);
+                        this.content = materialized;
+                    }
+                }
+            }
+            return materialized;
+        }
+
+        /**
+         * Returns a {@link StreamingSlice} that applies the converter while the content is being consumed.
+         * <p>
+         * This consumes the content of this slice: the returned slice takes over the source.
+         */
+        @Override
+        public <U> StreamingSlice<U> map(@NonNull Function<? super T, U> converter) {
+            var iterator = this.iterator();
+            return new StreamingSlice<>(new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public U next() {
+                    return converter.apply(iterator.next());
+                }
+            }, this::close, this.controls, this.totalCount);
+        }
+
+        /**
+         * Same as {@link #map(Function)}: the content of a streaming slice is always converted while it is consumed.
+         */
+        @Override
+        public <U> StreamingSlice<U> mapView(@NonNull Function<? super T, U> converter) {
+            return this.map(converter);
+        }
+
+        /**
+         * Closes the source of this slice. Items that have not been consumed yet are discarded.
+         */
+        @Override
+        public void close() {
+            if (this.closed.compareAndSet(false, true)) {
+                this.onClose.run();
+            }
+        }
+
+        private void consume() {
+            if (!this.consumed.compareAndSet(false, true)) {
+                throw new IllegalStateException("The content of a streaming slice can only be consumed once");
+            }
+        }
+
+        @Override
+        public Pagination getPagination() {
+            return this.controls.current();
+        }
+
+        @Override
+        public Pagination current() {
+            return this.controls.current();
+        }
+
+        @Override
+        public Optional<Pagination> next() {
+            return this.controls.next();
+        }
+
+        @Override
+        public Optional<Pagination> previous() {
+            return this.controls.previous();
+        }
+
+        @Override
+        public Pagination first() {
+            return this.controls.first();
+        }
+
+        /**
+         * Reads at most the limit of the current pagination from the source, and closes the source when done
+         */
+        private class LimitingIterator implements Iterator<T> {
+
+            private int remaining;
+
+            LimitingIterator() {
+                var limit = StreamingSlice.this.getLimit();
+                this.remaining = limit != null ? limit : Integer.MAX_VALUE;
+            }
+
+            @Override
+            public boolean hasNext() {
+                if (this.remaining > 0 && !StreamingSlice.this.closed.get() && StreamingSlice.this.source.hasNext()) {
+                    return true;
+                }
+                StreamingSlice.this.close();
+                return false;
+            }
+
+            @Override
+            public T next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                this.remaining--;
+                return StreamingSlice.this.source.next();
+            }
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package com.contentgrid.hateoas.pagination.api;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * The total number of items in a result-set, which is either counted exactly or estimated
+ */
+@Value
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TotalCount {
+
+    long count;
+
+    boolean exact;
+
+    /**
+     * @param count the exact number of items
+     * @return an exact total count
+     */
+    public static TotalCount exact(long count) {
+        return new TotalCount(count, true);
+    }
+
+    /**
+     * @param count the approximate number of items, for example from database statistics
+     * @return an estimated total count
+     */
+    public static TotalCount estimated(long count) {
+        return new TotalCount(count, false);
+    }
+}
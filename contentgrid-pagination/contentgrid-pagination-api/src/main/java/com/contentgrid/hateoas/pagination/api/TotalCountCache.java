@@ -0,0 +1,143 @@
+package com.contentgrid.hateoas.pagination.api;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.NonNull;
+
+/**
+ * Runs {@link TotalCountProvider}s asynchronously and caches their results per query signature
+ * <p>
+ * Counting starts as soon as {@link #count(Object, TotalCountProvider)} is called, so it runs alongside the query that
+ * fetches the content of a slice. Requests with the same signature share a single count while it is in progress, no
+ * matter how long it takes. A finished count is reused until its time-to-live, measured from the moment counting
+ * finished, has passed; failed counts are not reused. When more than the maximum number of signatures are cached, the
+ * least recently used one is evicted.
+ * <p>
+ * The query signature identifies the result-set that is counted, for example the query with its filter parameters but
+ * without pagination parameters. It must have proper {@code equals} and {@code hashCode} implementations.
+ */
+public class TotalCountCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final long ttlNanos;
+
+    private final Executor executor;
+
+    private final int maxEntries;
+
+    // guarded by itself; the lock is only held for map operations, counting happens outside of it
+    private final Map<Object, Entry> entries;
+
+    /**
+     * @param ttl how long a count is reused
+     * @param executor the executor to run the count providers on
+     */
+    public TotalCountCache(@NonNull Duration ttl, @NonNull Executor executor) {
+        this(ttl, executor, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param ttl how long a count is reused
+     * @param executor the executor to run the count providers on
+     * @param maxEntries the maximum number of cached counts
+     */
+    public TotalCountCache(@NonNull Duration ttl, @NonNull Executor executor, int maxEntries) {
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must not be negative");
+        }
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.executor = executor;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                return this.size() > TotalCountCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached count for the signature, or starts counting with the provider
+     *
+     * @param signature identifies the result-set that is counted
+     * @param provider counts the result-set when there is no usable cached count
+     * @return the count, which completes when counting has finished
+     */
+    public CompletableFuture<TotalCount> count(@NonNull Object signature, @NonNull TotalCountProvider provider) {
+        var now = System.nanoTime();
+        Entry entry;
+        boolean start;
+        synchronized (this.entries) {
+            entry = this.entries.get(signature);
+            start = entry == null || !entry.isUsable(now);
+            if (start) {
+                entry = new Entry();
+                this.entries.put(signature, entry);
+            }
+        }
+
+        if (start) {
+            this.start(signature, entry, provider);
+        }
+
+        // callers can not complete or cancel the shared count
+        return entry.future.copy();
+    }
+
+    /**
+     * Removes the cached count for the signature, for example after the result-set was modified
+     *
+     * @param signature identifies the result-set that is counted
+     */
+    public void invalidate(@NonNull Object signature) {
+        synchronized (this.entries) {
+            this.entries.remove(signature);
+        }
+    }
+
+    private void start(Object signature, Entry entry, TotalCountProvider provider) {
+        try {
+            this.executor.execute(() -> {
+                try {
+                    var count = provider.count();
+                    entry.expiresAt = System.nanoTime() + this.ttlNanos;
+                    entry.future.complete(count);
+                } catch (RuntimeException | Error e) {
+                    this.fail(signature, entry, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.fail(signature, entry, e);
+        }
+    }
+
+    private void fail(Object signature, Entry entry, Throwable error) {
+        synchronized (this.entries) {
+            this.entries.remove(signature, entry);
+        }
+        entry.future.completeExceptionally(error);
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<TotalCount> future = new CompletableFuture<>();
+
+        // written before the future completes, so it is set for every count that is done
+        private volatile long expiresAt;
+
+        boolean isUsable(long now) {
+            if (!this.future.isDone()) {
+                return true;
+            }
+            return !this.future.isCompletedExceptionally() && now - this.expiresAt < 0;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.contentgrid.hateoas.pagination.api;
+
+/**
+ * Counts the total number of items of a result-set, exactly or as an estimate
+ *
+ * @see TotalCountCache#count(Object, TotalCountProvider)
+ */
+@FunctionalInterface
+public interface TotalCountProvider {
+
+    /**
+     * Counts the items. This can be an expensive, blocking operation.
+     *
+     * @return the total count
+     */
+    TotalCount count();
+}
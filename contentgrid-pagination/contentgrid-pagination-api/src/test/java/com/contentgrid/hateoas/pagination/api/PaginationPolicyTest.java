@@ -0,0 +1,111 @@
+package com.contentgrid.hateoas.pagination.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contentgrid.hateoas.pagination.api.PaginationPolicy.Adjustment;
+import com.contentgrid.hateoas.pagination.api.PaginationPolicy.OffsetOverflow;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PaginationPolicyTest {
+
+    private final List<Adjustment> adjustments = new ArrayList<>();
+
+    private PaginationPolicy policy(Integer defaultLimit, Integer maxLimit) {
+        return PaginationPolicy.unrestricted()
+                .withDefaultLimit(defaultLimit)
+                .withMaxLimit(maxLimit)
+                .withListener(this.adjustments::add);
+    }
+
+    @Test
+    void unrestrictedAcceptsEverything() {
+        var policy = PaginationPolicy.unrestricted();
+
+        assertThat(policy.applyLimit(null)).isNull();
+        assertThat(policy.applyLimit(10_000)).isEqualTo(10_000);
+        assertThat(policy.applyOffset(1_000_000L)).isEqualTo(1_000_000L);
+        assertThat(policy.unpaged().isUnpaged()).isTrue();
+    }
+
+    @Test
+    void requestedLimitWithinMaximumIsNotReported() {
+        assertThat(policy(20, 100).applyLimit(50)).isEqualTo(50);
+        assertThat(policy(20, 100).applyLimit(100)).isEqualTo(100);
+        assertThat(this.adjustments).isEmpty();
+    }
+
+    @Test
+    void requestedLimitAboveMaximumIsClampedAndReported() {
+        assertThat(policy(20, 100).applyLimit(500)).isEqualTo(100);
+        assertThat(this.adjustments).containsExactly(new Adjustment(Adjustment.LIMIT, 500, 100));
+    }
+
+    @Test
+    void requestedLimitBelowOneIsRaisedAndReported() {
+        assertThat(policy(null, null).applyLimit(0)).isEqualTo(1);
+        assertThat(policy(null, null).applyLimit(-5)).isEqualTo(1);
+        assertThat(this.adjustments).containsExactly(
+                new Adjustment(Adjustment.LIMIT, 0, 1),
+                new Adjustment(Adjustment.LIMIT, -5, 1));
+    }
+
+    @Test
+    void defaultLimitIsNotReported() {
+        assertThat(policy(20, 100).applyLimit(null)).isEqualTo(20);
+        assertThat(policy(null, null).applyLimit(null)).isNull();
+        assertThat(this.adjustments).isEmpty();
+    }
+
+    @Test
+    void defaultLimitThatCanNotBeUsedIsReported() {
+        // no default: an unlimited page is not allowed
+        assertThat(policy(null, 100).applyLimit(null)).isEqualTo(100);
+        // default above the maximum
+        assertThat(policy(200, 100).applyLimit(null)).isEqualTo(100);
+        assertThat(this.adjustments).containsExactly(
+                new Adjustment(Adjustment.LIMIT, null, 100),
+                new Adjustment(Adjustment.LIMIT, null, 100));
+    }
+
+    @Test
+    void unpagedUsesDefaultLimit() {
+        assertThat(policy(20, 100).unpaged()).isEqualTo(Pagination.limit(20));
+        assertThat(policy(null, null).unpaged().isUnpaged()).isTrue();
+    }
+
+    @Test
+    void offsetWithinMaximumIsNotReported() {
+        var policy = policy(null, null).withMaxOffset(1000L);
+
+        assertThat(policy.applyOffset(0)).isZero();
+        assertThat(policy.applyOffset(1000)).isEqualTo(1000);
+        assertThat(this.adjustments).isEmpty();
+    }
+
+    @Test
+    void negativeOffsetIsRaisedAndReported() {
+        assertThat(policy(null, null).applyOffset(-10)).isZero();
+        assertThat(this.adjustments).containsExactly(new Adjustment(Adjustment.OFFSET, -10L, 0L));
+    }
+
+    @Test
+    void offsetAboveMaximumIsRejected() {
+        var policy = policy(null, null).withMaxOffset(1000L).withOffsetOverflow(OffsetOverflow.REJECT);
+
+        assertThatThrownBy(() -> policy.applyOffset(1001))
+                .isInstanceOf(PaginationPolicyViolationException.class)
+                .hasMessageContaining("1001");
+        assertThat(this.adjustments).isEmpty();
+    }
+
+    @Test
+    void offsetAboveMaximumIsClampedAndReported() {
+        var policy = policy(null, null).withMaxOffset(1000L).withOffsetOverflow(OffsetOverflow.CLAMP);
+
+        assertThat(policy.applyOffset(5000)).isEqualTo(1000);
+        assertThat(this.adjustments).containsExactly(new Adjustment(Adjustment.OFFSET, 5000L, 1000L));
+    }
+}
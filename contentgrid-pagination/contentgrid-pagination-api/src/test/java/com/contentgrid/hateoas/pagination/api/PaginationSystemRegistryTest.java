@@ -0,0 +1,252 @@
+package com.contentgrid.hateoas.pagination.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class PaginationSystemRegistryTest {
+
+    @Test
+    void considersSystemsInPriorityOrder() {
+        var low = new TestSystem("low", 10, Set.of(), true);
+        var high = new TestSystem("high", -10, Set.of(), true);
+        var normal = new TestSystem("normal", 0, Set.of(), true);
+
+        var registry = new PaginationSystemRegistry(List.of(low, high, normal));
+
+        assertThat(registry.getSystems()).containsExactly(high, normal, low);
+        assertThat(registry.select(parameters(Map.of()))).contains(high);
+    }
+
+    @Test
+    void keepsRegistrationOrderForEqualPriority() {
+        var first = new TestSystem("first", 0, Set.of(), true);
+        var second = new TestSystem("second", 0, Set.of(), true);
+
+        var registry = new PaginationSystemRegistry()
+                .register(first)
+                .register(second)
+                .register(first);
+
+        assertThat(registry.getSystems()).containsExactly(first, second);
+        assertThat(registry.select(parameters(Map.of()))).contains(first);
+    }
+
+    @Test
+    void onlyMatchesKeyedSystemsWhenTheirKeyIsPresent() {
+        var page = new TestSystem("page", -1, Set.of("page"), true);
+        var cursor = new TestSystem("cursor", 0, Set.of("cursor"), true);
+        var registry = new PaginationSystemRegistry(List.of(page, cursor));
+
+        assertThat(registry.select(parameters(Map.of("cursor", "abc")))).contains(cursor);
+        assertThat(page.calls).isEmpty();
+
+        assertThat(registry.select(parameters(Map.of("page", "1", "cursor", "abc")))).contains(page);
+        assertThat(registry.select(parameters(Map.of("size", "20")))).isEmpty();
+        assertThat(page.calls).hasSize(1);
+        assertThat(cursor.calls).hasSize(1);
+    }
+
+    @Test
+    void alwaysMatchesUnkeyedSystems() {
+        var keyed = new TestSystem("keyed", -1, Set.of("page"), true);
+        var unkeyed = new TestSystem("unkeyed", 0, Set.of(), true);
+        var registry = new PaginationSystemRegistry(List.of(keyed, unkeyed));
+
+        assertThat(registry.select(parameters(Map.of()))).contains(unkeyed);
+        assertThat(registry.select(parameters(Map.of("page", "1")))).contains(keyed);
+        assertThat(keyed.calls).hasSize(1);
+    }
+
+    @Test
+    void skipsSystemsThatDoNotMatch() {
+        var declining = new TestSystem("declining", -1, Set.of("page"), false);
+        var fallback = new TestSystem("fallback", 0, Set.of(), true);
+        var registry = new PaginationSystemRegistry(List.of(declining, fallback));
+
+        assertThat(registry.select(parameters(Map.of("page", "1")))).contains(fallback);
+        assertThat(declining.calls).hasSize(1);
+    }
+
+    @Test
+    void createsUnpagedWithoutMatchingSystem() {
+        var registry = new PaginationSystemRegistry();
+
+        assertThat(registry.create(parameters(Map.of("page", "1"))).isUnpaged()).isTrue();
+    }
+
+    @Test
+    void clampsLimitOfSystemThatIgnoresPolicy() {
+        var system = new TestSystem("system", 0, Set.of(), true);
+        var registry = new PaginationSystemRegistry(List.of(system))
+                .setPolicy(PaginationPolicy.unrestricted().withMaxLimit(5));
+
+        assertThat(registry.create(parameters(Map.of()))).isEqualTo(Pagination.limit(5));
+    }
+
+    @Test
+    void clampsLimitOfCustomPagination() {
+        var system = new TestSystem("system", 0, Set.of(), true) {
+            @Override
+            public Pagination create(PaginationParameters parameters) {
+                return new PageNumber(3, 50);
+            }
+        };
+        var registry = new PaginationSystemRegistry(List.of(system))
+                .setPolicy(PaginationPolicy.unrestricted().withMaxLimit(20));
+
+        assertThat(registry.create(parameters(Map.of()))).isEqualTo(new PageNumber(3, 20));
+        assertThat(registry.setPolicy(PaginationPolicy.unrestricted()).create(parameters(Map.of())))
+                .isEqualTo(new PageNumber(3, 50));
+    }
+
+    @Test
+    void appliesPolicyPerSystem() {
+        var page = new TestSystem("page", 0, Set.of("page"), true);
+        var cursor = new TestSystem("cursor", 0, Set.of("cursor"), true);
+        var cursorPolicy = PaginationPolicy.unrestricted().withMaxLimit(50);
+        var registry = new PaginationSystemRegistry(List.of(page, cursor))
+                .setPolicy(PaginationPolicy.unrestricted().withMaxLimit(5))
+                .setPolicy(cursor, cursorPolicy);
+
+        assertThat(registry.getPolicy(cursor)).isSameAs(cursorPolicy);
+        assertThat(registry.getPolicy(page)).isSameAs(registry.getPolicy());
+        assertThat(registry.create(parameters(Map.of("page", "1")))).isEqualTo(Pagination.limit(5));
+        assertThat(registry.create(parameters(Map.of("cursor", "abc")))).isEqualTo(Pagination.limit(10));
+    }
+
+    @Test
+    void sharesRegistryPerClassLoader() throws Exception {
+        assertThat(PaginationSystemRegistry.forClassLoader(PaginationSystemRegistry.class.getClassLoader()))
+                .isSameAs(PaginationSystemRegistry.forClassLoader(PaginationSystemRegistry.class.getClassLoader()));
+
+        try (var classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            var registry = PaginationSystemRegistry.forClassLoader(classLoader);
+            assertThat(PaginationSystemRegistry.forClassLoader(classLoader)).isSameAs(registry);
+            assertThat(registry).isNotSameAs(
+                    PaginationSystemRegistry.forClassLoader(PaginationSystemRegistry.class.getClassLoader()));
+        }
+    }
+
+    @Test
+    void defaultRegistryDoesNotDependOnContextClassLoader() throws Exception {
+        // never matches, so registering it in the shared default registry does not affect other tests
+        var system = new TestSystem("default", 0, Set.of("default-registry-test"), false);
+        PaginationSystemRegistry.getDefault().register(system);
+        System.gc();
+
+        try (var classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            var seen = new AtomicReference<PaginationSystemRegistry>();
+            var thread = new Thread(() -> seen.set(PaginationSystemRegistry.getDefault()));
+            thread.setContextClassLoader(classLoader);
+            thread.start();
+            thread.join();
+
+            assertThat(seen.get()).isSameAs(PaginationSystemRegistry.getDefault())
+                    .isSameAs(PaginationSystemRegistry.forClassLoader(PaginationSystemRegistry.class.getClassLoader()));
+            assertThat(seen.get().getSystems()).contains(system);
+        }
+    }
+
+    @Test
+    void registryOfOtherClassLoaderCanNotBeModified() throws Exception {
+        var system = new TestSystem("system", 0, Set.of(), true);
+
+        try (var classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            var registry = PaginationSystemRegistry.forClassLoader(classLoader);
+
+            assertThatThrownBy(() -> registry.register(system)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> registry.setPolicy(PaginationPolicy.unrestricted()))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> registry.setPolicy(system, PaginationPolicy.unrestricted()))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(registry.getSystems()).doesNotContain(system);
+        }
+    }
+
+    private static PaginationParameters parameters(Map<String, String> values) {
+        var parameters = new HashMap<String, List<String>>();
+        values.forEach((key, value) -> parameters.put(key, List.of(value)));
+        return new PaginationParameters(parameters);
+    }
+
+    private record PageNumber(int page, int limit) implements Pagination {
+
+        @Override
+        public Integer getLimit() {
+            return this.limit;
+        }
+
+        @Override
+        public Pagination withLimit(int limit) {
+            return new PageNumber(this.page, limit);
+        }
+
+        @Override
+        public Optional<?> getReference() {
+            return Optional.of(this.page);
+        }
+
+        @Override
+        public boolean isFirstPage() {
+            return this.page == 0;
+        }
+
+        @Override
+        public Map<String, Object> getParameters() {
+            return Map.of("page", this.page, "limit", this.limit);
+        }
+    }
+
+    private static class TestSystem implements PaginationSystem {
+
+        private final String name;
+        private final int priority;
+        private final Set<String> keys;
+        private final boolean matches;
+        private final List<PaginationParameters> calls = new ArrayList<>();
+
+        TestSystem(String name, int priority, Set<String> keys, boolean matches) {
+            this.name = name;
+            this.priority = priority;
+            this.keys = keys;
+            this.matches = matches;
+        }
+
+        @Override
+        public boolean matches(PaginationParameters parameters) {
+            this.calls.add(parameters);
+            return this.matches;
+        }
+
+        @Override
+        public Pagination create(PaginationParameters parameters) {
+            return Pagination.limit(10);
+        }
+
+        @Override
+        public int getPriority() {
+            return this.priority;
+        }
+
+        @Override
+        public Set<String> getParameterKeys() {
+            return this.keys;
+        }
+
+        @Override
+        public String toString() {
+            return this.name;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.contentgrid.hateoas.pagination.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class QueryStringPaginationParametersTest {
+
+    private static String first(String query, String key) {
+        return PaginationParameters.fromQueryString(query).getValue(key, Function.identity(), null);
+    }
+
+    @Test
+    void findsParameters() {
+        var parameters = PaginationParameters.fromQueryString("filter=x&page=3&size=20");
+
+        assertThat(parameters.containsKey("page")).isTrue();
+        assertThat(parameters.containsKey("offset")).isFalse();
+        assertThat(parameters.getInt("page")).hasValue(3);
+        assertThat(parameters.getInt("size")).hasValue(20);
+    }
+
+    @Test
+    void doesNotMatchOnPrefix() {
+        assertThat(first("pages=1&page=2", "page")).isEqualTo("2");
+        assertThat(first("page=1", "pag")).isNull();
+    }
+
+    @Test
+    void decodesKeys() {
+        assertThat(first("p%61ge=3", "page")).isEqualTo("3");
+        assertThat(first("sort%5Bname%5D=asc", "sort[name]")).isEqualTo("asc");
+        assertThat(first("my+key=1", "my key")).isEqualTo("1");
+    }
+
+    @Test
+    void decodesValues() {
+        assertThat(first("q=a+b", "q")).isEqualTo("a b");
+        assertThat(first("q=a%26b%3Dc", "q")).isEqualTo("a&b=c");
+        assertThat(first("q=%E2%82%AC", "q")).isEqualTo("€");
+    }
+
+    @Test
+    void keepsMalformedEscapes() {
+        assertThat(first("q=%zz", "q")).isEqualTo("%zz");
+        assertThat(first("q=100%", "q")).isEqualTo("100%");
+        assertThat(first("%zz=1", "%zz")).isEqualTo("1");
+    }
+
+    @Test
+    void returnsAllValuesOfRepeatedKeys() {
+        var parameters = PaginationParameters.fromQueryString("page=1&size=5&page=2&p%61ge=3&page");
+
+        assertThat(parameters.getValues("page", Function.identity())).containsExactly("1", "2", "3", "");
+        assertThat(first("page=1&page=2", "page")).isEqualTo("1");
+    }
+
+    @Test
+    void parametersWithoutValue() {
+        // the '=' of a later parameter does not belong to a parameter without value
+        assertThat(first("offset&page=1", "offset")).isEmpty();
+        assertThat(first("offset&page=1", "page")).isEqualTo("1");
+        assertThat(first("limit=", "limit")).isEmpty();
+    }
+
+    @Test
+    void valuesCanContainSeparator() {
+        assertThat(first("q=a=b&page=1", "q")).isEqualTo("a=b");
+        assertThat(first("q=a=b&page=1", "page")).isEqualTo("1");
+    }
+
+    @Test
+    void ignoresEmptySegments() {
+        assertThat(first("&&page=1&", "page")).isEqualTo("1");
+        assertThat(PaginationParameters.fromQueryString("").containsKey("page")).isFalse();
+        assertThat(PaginationParameters.fromQueryString(null).containsKey("page")).isFalse();
+    }
+}
@@ -0,0 +1,199 @@
+package com.contentgrid.hateoas.pagination.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ReadAheadIteratorTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private final AtomicInteger fetched = new AtomicInteger();
+
+    private final Set<Integer> closed = ConcurrentHashMap.newKeySet();
+
+    @AfterEach
+    void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Fetches a page of {@link #PAGE_SIZE} items, numbered from {@code page * PAGE_SIZE}
+     */
+    private Slice<Integer> fetch(Pagination pagination, int pages) {
+        this.fetched.incrementAndGet();
+        var page = ((PageNumber) pagination).page();
+        var items = IntStream.range(page * PAGE_SIZE, (page + 1) * PAGE_SIZE).boxed();
+        return Slice.streaming(items.onClose(() -> this.closed.add(page)),
+                new Controls(page, page + 1 < pages ? new PageNumber(page + 1) : null));
+    }
+
+    @Test
+    void iteratesAllPagesInOrder() {
+        try (var items = ReadAheadIterator.start(new PageNumber(0), pagination -> fetch(pagination, 4), 1,
+                this.executor).stream()) {
+            assertThat(items.collect(Collectors.toList()))
+                    .containsExactlyElementsOf(IntStream.range(0, 12).boxed().toList());
+        }
+
+        assertThat(this.fetched).hasValue(4);
+        assertThat(this.closed).containsExactlyInAnyOrder(0, 1, 2, 3);
+    }
+
+    @Test
+    void closeReleasesCurrentAndBufferedPages() throws InterruptedException {
+        var iterator = ReadAheadIterator.start(new PageNumber(0), pagination -> fetch(pagination, 100), 2,
+                this.executor);
+
+        assertThat(iterator.next()).isZero();
+        iterator.close();
+
+        assertThat(iterator.hasNext()).isFalse();
+        this.executor.shutdown();
+        assertThat(this.executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        // the current page, the buffered pages and the page the producer was holding on to are all closed
+        assertThat(this.closed).hasSize(this.fetched.get());
+        assertThat(this.fetched.get()).isLessThan(100);
+    }
+
+    @Test
+    void closesPageFetchedWhileClosing() throws InterruptedException {
+        var fetching = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var iterator = ReadAheadIterator.<Integer>start(new PageNumber(0), pagination -> {
+            if (((PageNumber) pagination).page() == 1) {
+                fetching.countDown();
+                awaitUninterruptibly(release);
+            }
+            return fetch(pagination, 3);
+        }, 2, this.executor);
+
+        assertThat(iterator.next()).isZero();
+        assertThat(fetching.await(5, TimeUnit.SECONDS)).isTrue();
+        iterator.close();
+        release.countDown();
+
+        this.executor.shutdown();
+        assertThat(this.executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(this.fetched).hasValue(2);
+        assertThat(this.closed).containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    void rethrowsFetchErrorAfterPrecedingItems() {
+        var failure = new IllegalStateException("page 2 is unavailable");
+        var iterator = ReadAheadIterator.<Integer>start(new PageNumber(0), pagination -> {
+            if (((PageNumber) pagination).page() == 2) {
+                throw failure;
+            }
+            return fetch(pagination, 4);
+        }, 1, this.executor);
+
+        var items = new ArrayList<Integer>();
+        assertThatThrownBy(() -> iterator.forEachRemaining(items::add)).isSameAs(failure);
+
+        assertThat(items).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(this.closed).containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    void buffersAtMostPrefetchPages() throws InterruptedException {
+        var iterator = ReadAheadIterator.start(new PageNumber(0), pagination -> fetch(pagination, 100), 2,
+                this.executor);
+
+        assertThat(iterator.next()).isZero();
+        // wait until the producer is blocked: the current page, 2 buffered pages and 1 page waiting to be put
+        for (int i = 0; i < 100 && this.fetched.get() < 4; i++) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+
+        assertThat(this.fetched).hasValue(4);
+        iterator.close();
+    }
+
+    @Test
+    void rejectsEmptyBuffer() {
+        assertThatThrownBy(() -> ReadAheadIterator.start(new PageNumber(0), pagination -> fetch(pagination, 1), 0,
+                this.executor)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException e) {
+                // keep fetching, like a blocking query that does not respond to interrupts
+            }
+        }
+    }
+
+    private record PageNumber(int page) implements Pagination {
+
+        @Override
+        public Integer getLimit() {
+            return PAGE_SIZE;
+        }
+
+        @Override
+        public Pagination withLimit(int limit) {
+            throw new UnsupportedOperationException("Test pages have a fixed size");
+        }
+
+        @Override
+        public Optional<?> getReference() {
+            return Optional.of(this.page);
+        }
+
+        @Override
+        public boolean isFirstPage() {
+            return this.page == 0;
+        }
+
+        @Override
+        public Map<String, Object> getParameters() {
+            return Map.of("page", this.page);
+        }
+    }
+
+    private record Controls(int page, Pagination nextPage) implements PaginationControls {
+
+        @Override
+        public Pagination current() {
+            return new PageNumber(this.page);
+        }
+
+        @Override
+        public Optional<Pagination> next() {
+            return Optional.ofNullable(this.nextPage);
+        }
+
+        @Override
+        public Optional<Pagination> previous() {
+            return this.page > 0 ? Optional.of(new PageNumber(this.page - 1)) : Optional.empty();
+        }
+
+        @Override
+        public Pagination first() {
+            return new PageNumber(0);
+        }
+    }
+}
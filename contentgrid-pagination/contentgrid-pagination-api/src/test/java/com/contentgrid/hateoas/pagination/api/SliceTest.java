@@ -0,0 +1,110 @@
+package com.contentgrid.hateoas.pagination.api;
+
+import static com.contentgrid.hateoas.pagination.api.StreamingSliceTest.controls;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SliceTest {
+
+    private final AtomicInteger conversions = new AtomicInteger();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private final Function<Integer, String> converter = item -> {
+        this.conversions.incrementAndGet();
+        return "item-" + item;
+    };
+
+    @AfterEach
+    void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void mapConvertsEagerly() {
+        var slice = Slice.from(List.of(1, 2, 3), controls(10));
+
+        var mapped = slice.map(this.converter);
+        assertThat(this.conversions).hasValue(3);
+
+        assertThat(mapped.getContent()).containsExactly("item-1", "item-2", "item-3");
+        assertThat(mapped.getContent().get(1)).isEqualTo("item-2");
+        assertThat(this.conversions).hasValue(3);
+        assertThat(mapped.getPagination()).isEqualTo(slice.getPagination());
+    }
+
+    @Test
+    void mapViewConvertsOnAccess() {
+        var slice = Slice.from(List.of(1, 2, 3), controls(10));
+
+        var mapped = slice.mapView(this.converter);
+        assertThat(this.conversions).hasValue(0);
+
+        assertThat(mapped.getContent()).containsExactly("item-1", "item-2", "item-3");
+        assertThat(this.conversions).hasValue(3);
+        assertThat(mapped.getContent().get(1)).isEqualTo("item-2");
+        assertThat(this.conversions).hasValue(4);
+    }
+
+    @Test
+    void mappedContentIsReadOnly() {
+        var slice = Slice.from(List.of(1, 2), controls(10));
+
+        assertThatThrownBy(() -> slice.map(this.converter).getContent().set(0, "other"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> slice.mapView(this.converter).getContent().add("other"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void parallelMapKeepsOrder() {
+        var items = IntStream.range(0, 1000).boxed().toList();
+        var slice = Slice.from(items, controls(null));
+
+        var mapped = slice.map(this.converter, this.executor);
+
+        assertThat(mapped.getContent()).containsExactlyElementsOf(items.stream().map(i -> "item-" + i).toList());
+        assertThat(this.conversions).hasValue(1000);
+    }
+
+    @Test
+    void parallelMapRethrowsConverterException() {
+        var slice = Slice.from(List.of(1, 2, 3, 4), controls(null));
+        var failure = new IllegalStateException("cannot convert 3");
+
+        assertThatThrownBy(() -> slice.map(item -> {
+            if (item == 3) {
+                throw failure;
+            }
+            return item;
+        }, this.executor)).isSameAs(failure);
+    }
+
+    @Test
+    void parallelMapOfEmptySlice() {
+        var mapped = Slice.<Integer>empty().map(this.converter, this.executor);
+
+        assertThat(mapped.getContent()).isEmpty();
+        assertThat(this.conversions).hasValue(0);
+    }
+
+    @Test
+    void mapKeepsTotalCount() {
+        var count = CompletableFuture.completedFuture(TotalCount.exact(42));
+        var slice = Slice.from(List.of(1, 2), controls(2)).withTotalCount(count);
+
+        assertThat(slice.map(this.converter).getTotalCount()).contains(count);
+        assertThat(slice.mapView(this.converter).getTotalCount()).contains(count);
+        assertThat(slice.map(this.converter, this.executor).getTotalCount()).contains(count);
+    }
+}
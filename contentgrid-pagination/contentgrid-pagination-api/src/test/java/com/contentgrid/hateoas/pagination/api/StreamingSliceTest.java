@@ -0,0 +1,132 @@
+package com.contentgrid.hateoas.pagination.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class StreamingSliceTest {
+
+    private final AtomicInteger pulled = new AtomicInteger();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private Stream<String> source(String... items) {
+        return Stream.of(items)
+                .peek(item -> this.pulled.incrementAndGet())
+                .onClose(() -> this.closed.set(true));
+    }
+
+    @Test
+    void contentCanOnlyBeConsumedOnce() {
+        var slice = Slice.streaming(source("a", "b"), controls(null));
+
+        assertThat(slice.stream().collect(Collectors.toList())).containsExactly("a", "b");
+
+        assertThatThrownBy(slice::iterator).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(slice::getContent).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> slice.map(String::toUpperCase)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void materializedContentCanBeReused() {
+        var slice = Slice.streaming(source("a", "b"), controls(null));
+
+        assertThat(slice.getContent()).containsExactly("a", "b");
+        assertThat(slice.getContent()).containsExactly("a", "b");
+        assertThat(slice).containsExactly("a", "b");
+        assertThat(slice.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    void readsNoMoreThanTheLimit() {
+        var slice = Slice.streaming(source("a", "b", "c", "d"), controls(2));
+
+        assertThat(slice).containsExactly("a", "b");
+        assertThat(this.pulled).hasValue(2);
+        assertThat(this.closed).isTrue();
+    }
+
+    @Test
+    void closesSourceWhenConsumed() {
+        var slice = Slice.streaming(source("a"), controls(null));
+        var iterator = slice.iterator();
+
+        assertThat(iterator.next()).isEqualTo("a");
+        assertThat(this.closed).isFalse();
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(this.closed).isTrue();
+    }
+
+    @Test
+    void closeDiscardsRemainingItems() {
+        var slice = Slice.streaming(source("a", "b", "c"), controls(null));
+        var iterator = slice.iterator();
+        iterator.next();
+
+        slice.close();
+
+        assertThat(this.closed).isTrue();
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(this.pulled).hasValue(1);
+    }
+
+    @Test
+    void mapConvertsWhileConsuming() {
+        var slice = Slice.streaming(source("a", "b", "c"), controls(2));
+
+        var mapped = slice.map(String::toUpperCase);
+        assertThat(this.pulled).hasValue(0);
+
+        assertThat(mapped).containsExactly("A", "B");
+        assertThat(this.closed).isTrue();
+        assertThat(mapped.next()).isEqualTo(slice.next());
+    }
+
+    @Test
+    void totalCountKeepsTheSliceStreaming() {
+        var count = CompletableFuture.completedFuture(TotalCount.exact(3));
+        var slice = Slice.streaming(source("a", "b", "c"), controls(2));
+
+        var counted = slice.withTotalCount(count);
+        assertThat(counted.getTotalCount()).contains(count);
+        assertThat(this.pulled).hasValue(0);
+
+        var mapped = counted.map(String::toUpperCase);
+        assertThat(mapped.getTotalCount()).contains(count);
+        mapped.close();
+        assertThat(this.closed).isTrue();
+        assertThat(this.pulled).hasValue(0);
+    }
+
+    static PaginationControls controls(Integer limit) {
+        var current = limit != null ? Pagination.limit(limit) : Pagination.unpaged();
+        return new PaginationControls() {
+            @Override
+            public Pagination current() {
+                return current;
+            }
+
+            @Override
+            public Optional<Pagination> next() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<Pagination> previous() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Pagination first() {
+                return current;
+            }
+        };
+    }
+}
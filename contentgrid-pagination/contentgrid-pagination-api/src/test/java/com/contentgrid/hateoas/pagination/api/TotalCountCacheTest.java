@@ -0,0 +1,135 @@
+package com.contentgrid.hateoas.pagination.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TotalCountCacheTest {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    private final Executor queued = this.tasks::add;
+
+    private final AtomicInteger counts = new AtomicInteger();
+
+    private final TotalCountProvider provider = () -> TotalCount.exact(this.counts.incrementAndGet());
+
+    private void runTasks() {
+        for (Runnable task; (task = this.tasks.poll()) != null; ) {
+            task.run();
+        }
+    }
+
+    @Test
+    void sharesCountInProgress() {
+        var cache = new TotalCountCache(Duration.ofMinutes(1), this.queued);
+
+        var first = cache.count("query", this.provider);
+        var second = cache.count("query", this.provider);
+        assertThat(this.tasks).hasSize(1);
+
+        runTasks();
+
+        assertThat(first.join()).isEqualTo(TotalCount.exact(1));
+        assertThat(second.join()).isEqualTo(TotalCount.exact(1));
+        assertThat(cache.count("query", this.provider).join()).isEqualTo(TotalCount.exact(1));
+        assertThat(this.counts).hasValue(1);
+    }
+
+    @Test
+    void sharesCountInProgressLongerThanTtl() {
+        var cache = new TotalCountCache(Duration.ZERO, this.queued);
+
+        var first = cache.count("query", this.provider);
+        var second = cache.count("query", this.provider);
+        runTasks();
+
+        assertThat(first.join()).isEqualTo(second.join());
+        assertThat(this.counts).hasValue(1);
+    }
+
+    @Test
+    void countsAgainAfterTtl() {
+        var cache = new TotalCountCache(Duration.ZERO, Runnable::run);
+
+        assertThat(cache.count("query", this.provider).join()).isEqualTo(TotalCount.exact(1));
+        assertThat(cache.count("query", this.provider).join()).isEqualTo(TotalCount.exact(2));
+    }
+
+    @Test
+    void countsPerSignature() {
+        var cache = new TotalCountCache(Duration.ofMinutes(1), Runnable::run);
+
+        assertThat(cache.count("a", this.provider).join()).isEqualTo(TotalCount.exact(1));
+        assertThat(cache.count("b", this.provider).join()).isEqualTo(TotalCount.exact(2));
+        assertThat(cache.count("a", this.provider).join()).isEqualTo(TotalCount.exact(1));
+    }
+
+    @Test
+    void doesNotReuseFailedCount() {
+        var cache = new TotalCountCache(Duration.ofMinutes(1), Runnable::run);
+        var failure = new IllegalStateException("count failed");
+
+        var failed = cache.count("query", () -> {
+            throw failure;
+        });
+
+        assertThatThrownBy(failed::join).isInstanceOf(CompletionException.class).hasCause(failure);
+        assertThat(cache.count("query", this.provider).join()).isEqualTo(TotalCount.exact(1));
+    }
+
+    @Test
+    void failsWhenExecutorRejectsCount() {
+        var cache = new TotalCountCache(Duration.ofMinutes(1), task -> {
+            throw new RejectedExecutionException();
+        });
+
+        assertThatThrownBy(cache.count("query", this.provider)::join)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(this.counts).hasValue(0);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        var cache = new TotalCountCache(Duration.ofMinutes(1), Runnable::run, 2);
+
+        cache.count("a", this.provider);
+        cache.count("b", this.provider);
+        cache.count("a", this.provider);
+        cache.count("c", this.provider);
+        assertThat(this.counts).hasValue(3);
+
+        // "b" was used least recently, so it was evicted
+        assertThat(cache.count("a", this.provider).join()).isEqualTo(TotalCount.exact(1));
+        assertThat(cache.count("b", this.provider).join()).isEqualTo(TotalCount.exact(4));
+    }
+
+    @Test
+    void invalidateRemovesCount() {
+        var cache = new TotalCountCache(Duration.ofMinutes(1), Runnable::run);
+
+        cache.count("query", this.provider);
+        cache.invalidate("query");
+
+        assertThat(cache.count("query", this.provider).join()).isEqualTo(TotalCount.exact(2));
+    }
+
+    @Test
+    void callersCanNotCompleteSharedCount() {
+        var cache = new TotalCountCache(Duration.ofMinutes(1), this.queued);
+
+        cache.count("query", this.provider).complete(TotalCount.exact(99));
+        cache.count("query", this.provider).cancel(true);
+        runTasks();
+
+        assertThat(cache.count("query", this.provider).join()).isEqualTo(TotalCount.exact(1));
+    }
+}
@@ -0,0 +1,192 @@
+package com.contentgrid.hateoas.pagination.cursor;
+
+import com.contentgrid.hateoas.pagination.cursor.CursorPagination.Direction;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Encodes cursors into compact, url-safe tokens
+ * <p>
+ * A token is the unpadded base64url encoding of a header byte followed by the sort key values. The header holds the
+ * format version and the direction. Every value is written as a type tag followed by a compact representation of the
+ * value: integers use zig-zag varints and strings are length-prefixed UTF-8.
+ */
+final class CursorCodec {
+
+    private static final int VERSION = 1;
+
+    private static final int TYPE_NULL = 0;
+    private static final int TYPE_FALSE = 1;
+    private static final int TYPE_TRUE = 2;
+    private static final int TYPE_LONG = 3;
+    private static final int TYPE_DOUBLE = 4;
+    private static final int TYPE_STRING = 5;
+    private static final int TYPE_UUID = 6;
+    private static final int TYPE_INSTANT = 7;
+    private static final int TYPE_LOCAL_DATE = 8;
+    private static final int TYPE_DECIMAL = 9;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    /**
+     * Encodes a direction and sort key values into a token
+     *
+     * @throws IllegalArgumentException when a value has a type that can not be encoded
+     */
+    static String encode(Direction direction, List<?> keys) {
+        var out = new ByteArrayOutputStream(16 + 8 * keys.size());
+        out.write(VERSION << 1 | (direction == Direction.BACKWARD ? 1 : 0));
+        for (var key : keys) {
+            writeValue(out, key);
+        }
+        return ENCODER.encodeToString(out.toByteArray());
+    }
+
+    /**
+     * Decodes a token that was created by {@link #encode(Direction, List)}
+     *
+     * @throws IllegalArgumentException when the token is not a valid cursor
+     */
+    static CursorPagination decode(String token, Integer limit) {
+        var buffer = ByteBuffer.wrap(DECODER.decode(token));
+        try {
+            int header = Byte.toUnsignedInt(buffer.get());
+            if (header >>> 1 != VERSION) {
+                throw new IllegalArgumentException("Unsupported cursor version %d".formatted(header >>> 1));
+            }
+            var direction = (header & 1) == 1 ? Direction.BACKWARD : Direction.FORWARD;
+
+            var keys = new ArrayList<>();
+            while (buffer.hasRemaining()) {
+                keys.add(readValue(buffer));
+            }
+
+            if (keys.isEmpty() && direction == Direction.BACKWARD) {
+                throw new IllegalArgumentException("Backward cursor without sort keys");
+            }
+            return new CursorPagination.DefaultCursorPagination(direction, Collections.unmodifiableList(keys), limit,
+                    token);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated cursor", e);
+        } catch (DateTimeException | ArithmeticException e) {
+            // a crafted token can hold values that are out of range for the type
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+
+    private static void writeValue(ByteArrayOutputStream out, Object value) {
+        if (value == null) {
+            out.write(TYPE_NULL);
+        } else if (value instanceof Boolean bool) {
+            out.write(bool ? TYPE_TRUE : TYPE_FALSE);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short
+                || value instanceof Byte) {
+            out.write(TYPE_LONG);
+            writeVarLong(out, ((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            out.write(TYPE_DOUBLE);
+            long bits = Double.doubleToLongBits(((Number) value).doubleValue());
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) (bits >>> shift));
+            }
+        } else if (value instanceof CharSequence string) {
+            out.write(TYPE_STRING);
+            writeBytes(out, string.toString().getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof UUID uuid) {
+            out.write(TYPE_UUID);
+            var bytes = ByteBuffer.allocate(16)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits());
+            out.write(bytes.array(), 0, 16);
+        } else if (value instanceof Instant instant) {
+            out.write(TYPE_INSTANT);
+            writeVarLong(out, instant.getEpochSecond());
+            writeVarLong(out, instant.getNano());
+        } else if (value instanceof LocalDate date) {
+            out.write(TYPE_LOCAL_DATE);
+            writeVarLong(out, date.toEpochDay());
+        } else if (value instanceof BigDecimal decimal) {
+            out.write(TYPE_DECIMAL);
+            writeVarLong(out, decimal.scale());
+            writeBytes(out, decimal.unscaledValue().toByteArray());
+        } else {
+            throw new IllegalArgumentException(
+                    "Unsupported cursor key type %s".formatted(value.getClass().getName()));
+        }
+    }
+
+    private static Object readValue(ByteBuffer buffer) {
+        int type = buffer.get();
+        return switch (type) {
+            case TYPE_NULL -> null;
+            case TYPE_FALSE -> Boolean.FALSE;
+            case TYPE_TRUE -> Boolean.TRUE;
+            case TYPE_LONG -> readVarLong(buffer);
+            case TYPE_DOUBLE -> buffer.getDouble();
+            case TYPE_STRING -> new String(readBytes(buffer), StandardCharsets.UTF_8);
+            case TYPE_UUID -> new UUID(buffer.getLong(), buffer.getLong());
+            case TYPE_INSTANT -> {
+                long seconds = readVarLong(buffer);
+                yield Instant.ofEpochSecond(seconds, readVarLong(buffer));
+            }
+            case TYPE_LOCAL_DATE -> LocalDate.ofEpochDay(readVarLong(buffer));
+            case TYPE_DECIMAL -> {
+                int scale = Math.toIntExact(readVarLong(buffer));
+                yield new BigDecimal(new BigInteger(readBytes(buffer)), scale);
+            }
+            default -> throw new IllegalArgumentException("Unknown cursor key type %d".formatted(type));
+        };
+    }
+
+    private static void writeBytes(ByteArrayOutputStream out, byte[] bytes) {
+        writeVarLong(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        long length = readVarLong(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Truncated cursor");
+        }
+        var bytes = new byte[(int) length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = buffer.get();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in cursor");
+    }
+}
@@ -0,0 +1,169 @@
+package com.contentgrid.hateoas.pagination.cursor;
+
+import com.contentgrid.hateoas.pagination.api.Pagination;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Keyset pagination: a page is requested relative to the sort key values of an item, instead of by the number of items
+ * to skip
+ * <p>
+ * The sort keys are the values of the columns the result-set is ordered by, for the item at the boundary of the page.
+ * They should end with a unique column, so every item has a distinct position. A {@link Direction#FORWARD forward}
+ * page contains the items that sort strictly after the keys, a {@link Direction#BACKWARD backward} page the items that
+ * sort strictly before the keys. Both can be served from an index, so every page costs the same, no matter how deep
+ * it is in the result-set.
+ * <p>
+ * The direction and the sort keys are exchanged with clients as an opaque {@link #getCursor() cursor} token.
+ */
+public interface CursorPagination extends Pagination {
+
+    /**
+     * @return the direction in which items are requested, relative to the {@link #getKeys() sort keys}
+     */
+    Direction getDirection();
+
+    /**
+     * Returns the sort key values of the item at the boundary of the requested page.
+     * <p>
+     * Empty for the first page. Supported key types are {@link String}, {@link Long}, {@link Double}, {@link Boolean},
+     * {@link java.util.UUID}, {@link java.time.Instant}, {@link java.time.LocalDate}, {@link java.math.BigDecimal} and
+     * {@literal null}. Other integer and floating point types are widened, so they are decoded as {@link Long} and
+     * {@link Double}.
+     *
+     * @return the sort key values, in the order of the sort columns
+     */
+    List<Object> getKeys();
+
+    /**
+     * @return the opaque token that represents the direction and the sort keys
+     */
+    String getCursor();
+
+    @Override
+    default Optional<String> getReference() {
+        return Optional.of(this.getCursor());
+    }
+
+    @Override
+    default boolean isFirstPage() {
+        return this.getKeys().isEmpty();
+    }
+
+    @Override
+    default Map<String, Object> getParameters() {
+        var parameters = new HashMap<String, Object>();
+        parameters.put(CursorPaginationSystem.CURSOR, this.getCursor());
+        if (this.getLimit() != null) {
+            parameters.put(CursorPaginationSystem.LIMIT, this.getLimit());
+        }
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    /**
+     * @param limit the maximum number of items on a page. May be {@literal null}
+     * @return a pagination for the first page of the result-set
+     */
+    static CursorPagination first(Integer limit) {
+        return DefaultCursorPagination.of(Direction.FORWARD, List.of(), limit);
+    }
+
+    /**
+     * @param keys the sort key values of the last item of the preceding page
+     * @param limit the maximum number of items on a page. May be {@literal null}
+     * @return a pagination for the items that sort after the given keys
+     * @throws IllegalArgumentException when a key has a type that can not be encoded in a cursor
+     */
+    static CursorPagination after(@NonNull List<?> keys, Integer limit) {
+        return DefaultCursorPagination.of(Direction.FORWARD, copyOf(keys), limit);
+    }
+
+    /**
+     * @param keys the sort key values of the first item of the following page, must not be empty
+     * @param limit the maximum number of items on a page. May be {@literal null}
+     * @return a pagination for the items that sort before the given keys
+     * @throws IllegalArgumentException when a key has a type that can not be encoded in a cursor
+     */
+    static CursorPagination before(@NonNull List<?> keys, Integer limit) {
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("Sort keys of a backward cursor must not be empty");
+        }
+        return DefaultCursorPagination.of(Direction.BACKWARD, copyOf(keys), limit);
+    }
+
+    /**
+     * Decodes a cursor token
+     *
+     * @param cursor the token returned by {@link #getCursor()}
+     * @param limit the maximum number of items on a page. May be {@literal null}
+     * @return the pagination represented by the token
+     * @throws IllegalArgumentException when the token is not a valid cursor
+     */
+    static CursorPagination fromCursor(@NonNull String cursor, Integer limit) {
+        return CursorCodec.decode(cursor, limit);
+    }
+
+    default CursorPagination withLimit(int limit) {
+        return new DefaultCursorPagination(this.getDirection(), this.getKeys(), limit, this.getCursor());
+    }
+
+    private static List<Object> copyOf(List<?> keys) {
+        // List.copyOf() does not allow null values, but a sort column can be nullable
+        return Collections.unmodifiableList(new ArrayList<>(keys));
+    }
+
+    enum Direction {
+        /**
+         * Items that sort after the sort keys
+         */
+        FORWARD,
+
+        /**
+         * Items that sort before the sort keys
+         */
+        BACKWARD
+    }
+
+    @EqualsAndHashCode(of = {"direction", "keys", "limit"})
+    class DefaultCursorPagination implements CursorPagination {
+
+        @Getter
+        private final Direction direction;
+
+        @Getter
+        private final List<Object> keys;
+
+        private final Integer limit;
+
+        @Getter
+        private final String cursor;
+
+        DefaultCursorPagination(Direction direction, List<Object> keys, Integer limit, String cursor) {
+            this.direction = direction;
+            this.keys = keys;
+            this.limit = limit;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public Integer getLimit() {
+            return this.limit;
+        }
+
+        static DefaultCursorPagination of(Direction direction, List<Object> keys, Integer limit) {
+            return new DefaultCursorPagination(direction, keys, limit, CursorCodec.encode(direction, keys));
+        }
+
+        @Override
+        public String toString() {
+            return "CursorPagination(%s, %s, limit=%s)".formatted(this.direction, this.keys, this.limit);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.contentgrid.hateoas.pagination.cursor;
+
+import com.contentgrid.hateoas.pagination.api.Pagination;
+import com.contentgrid.hateoas.pagination.api.PaginationControls;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+class CursorPaginationControls implements PaginationControls {
+
+    private final CursorPagination current;
+    private final CursorPagination next;
+    private final CursorPagination previous;
+
+    @Override
+    public CursorPagination current() {
+        return this.current;
+    }
+
+    @Override
+    public Optional<Pagination> next() {
+        return Optional.ofNullable(this.next);
+    }
+
+    @Override
+    public Optional<Pagination> previous() {
+        return Optional.ofNullable(this.previous);
+    }
+
+    @Override
+    public Pagination first() {
+        return CursorPagination.first(this.current.getLimit());
+    }
+}
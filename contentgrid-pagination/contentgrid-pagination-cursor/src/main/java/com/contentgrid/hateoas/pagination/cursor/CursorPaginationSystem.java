@@ -0,0 +1,125 @@
+package com.contentgrid.hateoas.pagination.cursor;
+
+import com.contentgrid.hateoas.pagination.api.Pagination;
+import com.contentgrid.hateoas.pagination.api.PaginationControls;
+import com.contentgrid.hateoas.pagination.api.PaginationControlsFactory;
+import com.contentgrid.hateoas.pagination.api.PaginationParameters;
+import com.contentgrid.hateoas.pagination.api.PaginationPolicy;
+import com.contentgrid.hateoas.pagination.api.PaginationSystem;
+import com.contentgrid.hateoas.pagination.api.Slice;
+import com.contentgrid.hateoas.pagination.api.Slice.OverfetchedSlice;
+import com.contentgrid.hateoas.pagination.cursor.CursorPagination.Direction;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.NonNull;
+
+public class CursorPaginationSystem implements PaginationSystem {
+
+    static final String CURSOR = "cursor";
+    static final String LIMIT = "limit";
+
+    @Override
+    public boolean matches(PaginationParameters parameters) {
+        return parameters.containsKey(CURSOR);
+    }
+
+    @Override
+    public Set<String> getParameterKeys() {
+        return Set.of(CURSOR);
+    }
+
+    @Override
+    public Pagination create(PaginationParameters parameters) {
+        return this.create(parameters, PaginationPolicy.unrestricted());
+    }
+
+    @Override
+    public Pagination create(PaginationParameters parameters, PaginationPolicy policy) {
+        var limitValue = parameters.getInt(LIMIT);
+        var limit = policy.applyLimit(limitValue.isPresent() ? limitValue.getAsInt() : null);
+
+        // an invalid cursor falls back to the first page, like unparseable values of other parameters
+        return parameters.getValue(CURSOR, cursor -> CursorPagination.fromCursor(cursor, limit),
+                CursorPagination.first(limit));
+    }
+
+    /**
+     * Creates the controls to navigate from a page that was retrieved with a {@link CursorPagination}
+     * <p>
+     * The items of a {@link Direction#BACKWARD backward} page must also be in the sort order of the result-set, so
+     * they have to be reversed when the query retrieves them in reverse order.
+     *
+     * @param pagination the pagination that was used to retrieve the items
+     * @param items the items on the page, in the sort order of the result-set
+     * @param keyExtractor returns the sort key values of an item
+     * @param hasMore whether more items are available beyond the page, in the {@link CursorPagination#getDirection()
+     *          direction} of the pagination
+     * @return the pagination controls
+     */
+    public static <T> PaginationControls createPaginationControls(@NonNull CursorPagination pagination,
+            @NonNull List<T> items, @NonNull Function<? super T, ? extends List<?>> keyExtractor, boolean hasMore) {
+        var limit = pagination.getLimit();
+
+        if (items.isEmpty()) {
+            // Nothing to anchor on: any page that exists starts at the beginning of the result-set
+            var first = pagination.isFirstPage() ? null : CursorPagination.first(limit);
+            return pagination.getDirection() == Direction.FORWARD
+                    ? new CursorPaginationControls(pagination, null, first)
+                    : new CursorPaginationControls(pagination, first, null);
+        }
+
+        var after = CursorPagination.after(keyExtractor.apply(items.get(items.size() - 1)), limit);
+        var before = CursorPagination.before(keyExtractor.apply(items.get(0)), limit);
+
+        if (pagination.getDirection() == Direction.FORWARD) {
+            return new CursorPaginationControls(pagination, hasMore ? after : null,
+                    pagination.isFirstPage() ? null : before);
+        }
+
+        // a backward page always has a next page: the item its cursor was anchored on
+        return new CursorPaginationControls(pagination, after, hasMore ? before : null);
+    }
+
+    /**
+     * Creates a {@link Slice} from items that were fetched with a limit of one more than the page size, so it is known
+     * whether more items are available without counting them.
+     * <p>
+     * The items must be in the sort order of the result-set. For a {@link Direction#FORWARD forward} page the extra
+     * item is the last one; for a {@link Direction#BACKWARD backward} page, which is usually fetched in reverse order,
+     * the extra item is the first one. The slice content is a view of the items without the extra item.
+     *
+     * @param pagination the pagination that was used to fetch the items
+     * @param rows the items that were fetched, up to {@code limit + 1}, in the sort order of the result-set
+     * @param keyExtractor returns the sort key values of an item
+     * @return a slice with at most {@code limit} items
+     * @see Slice#overfetched(List, Pagination, PaginationControlsFactory)
+     */
+    public static <T> Slice<T> createSlice(@NonNull CursorPagination pagination, @NonNull List<T> rows,
+            @NonNull Function<? super T, ? extends List<?>> keyExtractor) {
+        if (pagination.getDirection() == Direction.FORWARD) {
+            return Slice.overfetched(rows, pagination,
+                    (content, hasMore) -> createPaginationControls(pagination, content, keyExtractor, hasMore));
+        }
+
+        var limit = pagination.getLimit();
+        var hasMore = limit != null && rows.size() > limit;
+        var content = hasMore ? rows.subList(rows.size() - limit, rows.size()) : rows;
+        return new OverfetchedSlice<>(content, createPaginationControls(pagination, content, keyExtractor, hasMore));
+    }
+
+    public static CursorPagination convert(@NonNull Pagination pagination) {
+        // no paging information at all
+        if (pagination.isUnpaged()) {
+            return CursorPagination.first(null);
+        }
+
+        // lucky, this is already a CursorPagination
+        if (pagination instanceof CursorPagination cursor) {
+            return cursor;
+        }
+
+        // fallback to first-page with given limit
+        return CursorPagination.first(pagination.getLimit());
+    }
+}
@@ -0,0 +1,177 @@
+package com.contentgrid.hateoas.pagination.cursor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.contentgrid.hateoas.pagination.cursor.CursorPagination.Direction;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CursorCodecTest {
+
+    static Stream<Arguments> keys() {
+        return Stream.of(
+                Arguments.of("string", "héllo, wörld"),
+                Arguments.of("empty string", ""),
+                Arguments.of("long", Long.MIN_VALUE),
+                Arguments.of("negative long", -42L),
+                Arguments.of("double", 3.25d),
+                Arguments.of("true", true),
+                Arguments.of("false", false),
+                Arguments.of("uuid", UUID.fromString("8a5c2f27-5f7d-4c55-8d9e-2b9f4f6a8e01")),
+                Arguments.of("instant", Instant.parse("2024-02-29T12:34:56.789012345Z")),
+                Arguments.of("instant before epoch", Instant.parse("1901-01-01T00:00:00.5Z")),
+                Arguments.of("local date", LocalDate.of(2024, 2, 29)),
+                Arguments.of("decimal", new BigDecimal("-12345678901234567890.0042")),
+                Arguments.of("decimal with negative scale", new BigDecimal("1E+5"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("keys")
+    void roundTrips(String name, Object key) {
+        var token = CursorCodec.encode(Direction.FORWARD, List.of(key, 7L));
+
+        var decoded = CursorCodec.decode(token, 20);
+
+        assertThat(decoded.getDirection()).isEqualTo(Direction.FORWARD);
+        assertThat(decoded.getKeys()).containsExactly(key, 7L);
+        assertThat(decoded.getLimit()).isEqualTo(20);
+        assertThat(decoded.getCursor()).isEqualTo(token);
+    }
+
+    @Test
+    void roundTripsNull() {
+        var token = CursorCodec.encode(Direction.BACKWARD, Arrays.asList(null, "id"));
+
+        var decoded = CursorCodec.decode(token, null);
+
+        assertThat(decoded.getDirection()).isEqualTo(Direction.BACKWARD);
+        assertThat(decoded.getKeys()).containsExactly(null, "id");
+    }
+
+    @Test
+    void widensIntegersAndFloats() {
+        var token = CursorCodec.encode(Direction.FORWARD, List.of(42, (short) 7, (byte) -1, 1.5f));
+
+        assertThat(CursorCodec.decode(token, null).getKeys()).containsExactly(42L, 7L, -1L, 1.5d);
+    }
+
+    @Test
+    void encodesFirstPageCompactly() {
+        var token = CursorCodec.encode(Direction.FORWARD, List.of());
+
+        assertThat(token).isEqualTo("Ag");
+        assertThat(CursorCodec.decode(token, null).getKeys()).isEmpty();
+    }
+
+    @Test
+    void rejectsUnsupportedTypes() {
+        assertThatThrownBy(() -> CursorCodec.encode(Direction.FORWARD, List.of(new Object())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsTruncatedTokens() {
+        var token = CursorCodec.encode(Direction.FORWARD, List.of("a string key"));
+        var bytes = Base64.getUrlDecoder().decode(token);
+
+        for (int length = 0; length < bytes.length; length++) {
+            var truncated = encode(Arrays.copyOf(bytes, length));
+            if (length == 1) {
+                // just the header is the first page
+                assertThat(CursorCodec.decode(truncated, null).getKeys()).isEmpty();
+                continue;
+            }
+            assertThatThrownBy(() -> CursorCodec.decode(truncated, null))
+                    .as("token truncated to %d bytes", length)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void rejectsWrongVersion() {
+        assertThatThrownBy(() -> CursorCodec.decode(encode(new byte[]{4}), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("version");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "A"})
+    void rejectsCorruptedTokens(String token) {
+        assertThatThrownBy(() -> CursorCodec.decode(token, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsUnknownType() {
+        assertThatThrownBy(() -> CursorCodec.decode(encode(new byte[]{2, 99}), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsBackwardCursorWithoutKeys() {
+        assertThatThrownBy(() -> CursorCodec.decode(encode(new byte[]{3}), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsOutOfRangeValues() {
+        // instant with Long.MAX_VALUE seconds
+        var instant = varLongs(7, Long.MAX_VALUE, 0);
+        assertThatThrownBy(() -> CursorCodec.decode(instant, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // local date with Long.MIN_VALUE epoch days
+        var date = varLongs(8, Long.MIN_VALUE);
+        assertThatThrownBy(() -> CursorCodec.decode(date, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // decimal with a scale that does not fit in an int
+        var decimal = varLongs(9, Long.MAX_VALUE, 1, 1);
+        assertThatThrownBy(() -> CursorCodec.decode(decimal, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // varint that does not end within 64 bits
+        var varint = new byte[12];
+        Arrays.fill(varint, (byte) 0xFF);
+        varint[0] = 2;
+        varint[1] = 3;
+        assertThatThrownBy(() -> CursorCodec.decode(encode(varint), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Builds a forward token with a type tag, followed by raw zig-zag varints
+     */
+    private static String varLongs(int type, long... values) {
+        var out = new ByteArrayOutputStream();
+        out.write(2);
+        out.write(type);
+        for (var value : values) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                out.write((int) ((zigzag & 0x7F) | 0x80));
+                zigzag >>>= 7;
+            }
+            out.write((int) zigzag);
+        }
+        return encode(out.toByteArray());
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
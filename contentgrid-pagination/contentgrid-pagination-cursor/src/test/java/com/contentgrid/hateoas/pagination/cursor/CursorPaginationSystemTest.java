@@ -0,0 +1,139 @@
+package com.contentgrid.hateoas.pagination.cursor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.hateoas.pagination.api.PaginationParameters;
+import com.contentgrid.hateoas.pagination.api.PaginationPolicy;
+import com.contentgrid.hateoas.pagination.cursor.CursorPagination.Direction;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class CursorPaginationSystemTest {
+
+    private record Row(long id) {
+
+    }
+
+    private static List<Row> rows(long... ids) {
+        return Arrays.stream(ids).mapToObj(Row::new).toList();
+    }
+
+    private static List<?> key(Row row) {
+        return List.of(row.id());
+    }
+
+    @Test
+    void forwardFirstPageWithMoreItems() {
+        var pagination = CursorPagination.first(3);
+
+        var slice = CursorPaginationSystem.createSlice(pagination, rows(1, 2, 3, 4), CursorPaginationSystemTest::key);
+
+        assertThat(slice.getContent()).isEqualTo(rows(1, 2, 3));
+        assertThat(slice.next()).contains(CursorPagination.after(List.of(3L), 3));
+        assertThat(slice.previous()).isEmpty();
+        assertThat(slice.first()).isEqualTo(CursorPagination.first(3));
+    }
+
+    @Test
+    void forwardLastPage() {
+        var pagination = CursorPagination.after(List.of(3L), 3);
+
+        var slice = CursorPaginationSystem.createSlice(pagination, rows(4, 5), CursorPaginationSystemTest::key);
+
+        assertThat(slice.getContent()).isEqualTo(rows(4, 5));
+        assertThat(slice.next()).isEmpty();
+        assertThat(slice.previous()).contains(CursorPagination.before(List.of(4L), 3));
+    }
+
+    @Test
+    void forwardEmptyPage() {
+        var pagination = CursorPagination.after(List.of(10L), 3);
+
+        var slice = CursorPaginationSystem.createSlice(pagination, rows(), CursorPaginationSystemTest::key);
+
+        assertThat(slice.getContent()).isEmpty();
+        assertThat(slice.next()).isEmpty();
+        assertThat(slice.previous()).contains(CursorPagination.first(3));
+    }
+
+    @Test
+    void emptyFirstPage() {
+        var controls = CursorPaginationSystem.createPaginationControls(CursorPagination.first(3), List.<Row>of(),
+                CursorPaginationSystemTest::key, false);
+
+        assertThat(controls.next()).isEmpty();
+        assertThat(controls.previous()).isEmpty();
+    }
+
+    @Test
+    void backwardPageWithMoreItems() {
+        var pagination = CursorPagination.before(List.of(4L), 2);
+
+        // fetched in reverse and put back in sort order, with the extra item first
+        var slice = CursorPaginationSystem.createSlice(pagination, rows(1, 2, 3), CursorPaginationSystemTest::key);
+
+        assertThat(slice.getContent()).isEqualTo(rows(2, 3));
+        assertThat(slice.previous()).contains(CursorPagination.before(List.of(2L), 2));
+        assertThat(slice.next()).contains(CursorPagination.after(List.of(3L), 2));
+    }
+
+    @Test
+    void backwardFirstPage() {
+        var pagination = CursorPagination.before(List.of(3L), 2);
+
+        var slice = CursorPaginationSystem.createSlice(pagination, rows(1, 2), CursorPaginationSystemTest::key);
+
+        assertThat(slice.getContent()).isEqualTo(rows(1, 2));
+        assertThat(slice.previous()).isEmpty();
+        assertThat(slice.next()).contains(CursorPagination.after(List.of(2L), 2));
+    }
+
+    @Test
+    void backwardEmptyPage() {
+        var pagination = CursorPagination.before(List.of(1L), 2);
+
+        var slice = CursorPaginationSystem.createSlice(pagination, rows(), CursorPaginationSystemTest::key);
+
+        assertThat(slice.getContent()).isEmpty();
+        assertThat(slice.previous()).isEmpty();
+        assertThat(slice.next()).contains(CursorPagination.first(2));
+    }
+
+    @Test
+    void unlimitedPageHasNoMoreItems() {
+        var slice = CursorPaginationSystem.createSlice(CursorPagination.first(null), rows(1, 2, 3),
+                CursorPaginationSystemTest::key);
+
+        assertThat(slice.getContent()).isEqualTo(rows(1, 2, 3));
+        assertThat(slice.next()).isEmpty();
+    }
+
+    @Test
+    void createsFromParameters() {
+        var system = new CursorPaginationSystem();
+        var cursor = CursorPagination.before(List.of("b", 2L), null).getCursor();
+
+        var pagination = system.create(new PaginationParameters(
+                Map.of("cursor", List.of(cursor), "limit", List.of("50"))));
+
+        assertThat(pagination).isInstanceOfSatisfying(CursorPagination.class, created -> {
+            assertThat(created.getDirection()).isEqualTo(Direction.BACKWARD);
+            assertThat(created.getKeys()).containsExactly("b", 2L);
+            assertThat(created.getLimit()).isEqualTo(50);
+            assertThat(created.getReference()).isEqualTo(Optional.of(cursor));
+        });
+    }
+
+    @Test
+    void invalidCursorFallsBackToFirstPage() {
+        var system = new CursorPaginationSystem();
+
+        var pagination = system.create(new PaginationParameters(Map.of("cursor", List.of("A"))),
+                PaginationPolicy.unrestricted().withDefaultLimit(20));
+
+        assertThat(pagination).isEqualTo(CursorPagination.first(20));
+    }
+}
@@ -12,6 +12,9 @@ public interface OffsetPagination extends Pagination {
 
     /**
      * Returns the page to be returned.
+     * <p>
+     * Without a {@link #getPageSize() page size}, everything before the offset is considered to be the first page, so
+     * the page number is {@literal 1} for any offset other than {@literal 0}.
      *
      * @return the page to be returned.
      */
@@ -34,6 +37,10 @@ public interface OffsetPagination extends Pagination {
     }
 
     default Map<String, Object> getParameters() {
+        // an unlimited page has no limit parameter, and Map.of() does not allow null values
+        if (this.getLimit() == null) {
+            return Map.of("offset", this.getOffset());
+        }
         return Map.of(
                 "limit", this.getLimit(),
                 "offset", this.getOffset()
@@ -74,6 +81,9 @@ public interface OffsetPagination extends Pagination {
 
         @Override
         public int getPageNumber() {
+            if (this.pageSize == null) {
+                return this.offset == 0 ? 0 : 1;
+            }
             return (int) (offset / pageSize);
         }
 
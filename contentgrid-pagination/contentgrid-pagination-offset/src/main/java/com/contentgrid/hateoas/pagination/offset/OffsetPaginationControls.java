@@ -12,7 +12,7 @@ import lombok.experimental.Accessors;
 class OffsetPaginationControls implements PaginationControls {
 
     private final long offset;
-    private final int pageSize;
+    private final Integer pageSize;
 
     @Getter
     @Accessors(fluent = true)
@@ -25,7 +25,8 @@ class OffsetPaginationControls implements PaginationControls {
 
     @Override
     public Optional<Pagination> next() {
-        if (!this.hasNext) {
+        // an unlimited page contains all remaining items
+        if (!this.hasNext || this.pageSize == null) {
             return Optional.empty();
         }
 
@@ -44,7 +45,9 @@ class OffsetPaginationControls implements PaginationControls {
             return Optional.empty();
         }
 
-        var previous = OffsetPagination.offset(Math.max(this.offset - this.pageSize, 0), this.pageSize);
+        // without a page size, everything before the current offset is on the previous page
+        var previousOffset = this.pageSize != null ? Math.max(this.offset - this.pageSize, 0) : 0L;
+        var previous = OffsetPagination.offset(previousOffset, this.pageSize);
         return Optional.of(previous);
     }
 
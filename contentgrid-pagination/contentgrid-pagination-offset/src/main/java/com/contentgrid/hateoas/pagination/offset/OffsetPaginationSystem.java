@@ -2,8 +2,13 @@ package com.contentgrid.hateoas.pagination.offset;
 
 import com.contentgrid.hateoas.pagination.api.Pagination;
 import com.contentgrid.hateoas.pagination.api.PaginationControls;
+import com.contentgrid.hateoas.pagination.api.PaginationControlsFactory;
 import com.contentgrid.hateoas.pagination.api.PaginationParameters;
+import com.contentgrid.hateoas.pagination.api.PaginationPolicy;
 import com.contentgrid.hateoas.pagination.api.PaginationSystem;
+import com.contentgrid.hateoas.pagination.api.Slice;
+import java.util.List;
+import java.util.Set;
 import lombok.NonNull;
 
 public class OffsetPaginationSystem implements PaginationSystem {
@@ -13,18 +18,42 @@ public class OffsetPaginationSystem implements PaginationSystem {
         return parameters.containsKey("offset");
     }
 
+    @Override
+    public Set<String> getParameterKeys() {
+        return Set.of("offset");
+    }
+
     @Override
     public Pagination create(PaginationParameters parameters) {
-        var offset = parameters.getLong("offset", 0L);
-        var limit = parameters.getInteger("limit", null);
+        return this.create(parameters, PaginationPolicy.unrestricted());
+    }
 
-        return OffsetPagination.offset(offset, limit);
+    @Override
+    public Pagination create(PaginationParameters parameters, PaginationPolicy policy) {
+        var offset = policy.applyOffset(parameters.getLong("offset").orElse(0L));
+        var limit = parameters.getInt("limit");
+
+        return OffsetPagination.offset(offset, policy.applyLimit(limit.isPresent() ? limit.getAsInt() : null));
     }
 
     public static PaginationControls createPaginationControls(OffsetPagination pagination, boolean hasNext) {
         return new OffsetPaginationControls(pagination.getOffset(), pagination.getPageSize(), hasNext);
     }
 
+    /**
+     * Creates a {@link Slice} from items that were fetched with a limit of one more than the page size, so the next
+     * page is detected without counting the items.
+     *
+     * @param pagination the pagination that was used to fetch the items
+     * @param rows the items that were fetched, up to {@code limit + 1}
+     * @return a slice with at most {@code limit} items
+     * @see Slice#overfetched(List, Pagination, PaginationControlsFactory)
+     */
+    public static <T> Slice<T> createSlice(@NonNull Pagination pagination, @NonNull List<T> rows) {
+        var offset = convert(pagination);
+        return Slice.overfetched(rows, offset, (content, hasNext) -> createPaginationControls(offset, hasNext));
+    }
+
     public static OffsetPagination convert(@NonNull Pagination pagination) {
         // no paging information at all
         if (pagination.isUnpaged()) {
@@ -0,0 +1,56 @@
+package com.contentgrid.hateoas.pagination.offset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.contentgrid.hateoas.pagination.api.PaginationParameters;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class OffsetPaginationSystemTest {
+
+    private final OffsetPaginationSystem system = new OffsetPaginationSystem();
+
+    @Test
+    void offsetWithLimit() {
+        var pagination = system.create(PaginationParameters.fromQueryString("offset=40&limit=20"));
+
+        assertThat(pagination).isInstanceOfSatisfying(OffsetPagination.class, offset -> {
+            assertThat(offset.getOffset()).isEqualTo(40);
+            assertThat(offset.getLimit()).isEqualTo(20);
+            assertThat(offset.getPageNumber()).isEqualTo(2);
+            assertThat(offset.getParameters()).isEqualTo(Map.of("offset", 40L, "limit", 20));
+        });
+
+        var slice = OffsetPaginationSystem.createSlice(pagination, List.of("a", "b"));
+        assertThat(slice.next()).isEmpty();
+        assertThat(slice.previous()).contains(OffsetPagination.offset(20, 20));
+    }
+
+    @Test
+    void offsetWithoutLimit() {
+        var pagination = system.create(PaginationParameters.fromQueryString("offset=40"));
+
+        assertThat(pagination).isInstanceOfSatisfying(OffsetPagination.class, offset -> {
+            assertThat(offset.getOffset()).isEqualTo(40);
+            assertThat(offset.getLimit()).isNull();
+            assertThat(offset.getPageNumber()).isEqualTo(1);
+            assertThat(offset.getParameters()).isEqualTo(Map.of("offset", 40L));
+        });
+
+        var slice = OffsetPaginationSystem.createSlice(pagination, List.of("a", "b", "c"));
+        assertThat(slice.getContent()).containsExactly("a", "b", "c");
+        assertThat(slice.next()).isEmpty();
+        assertThat(slice.previous()).contains(OffsetPagination.offset(0, null));
+        assertThat(slice.first()).isEqualTo(OffsetPagination.firstPage());
+    }
+
+    @Test
+    void unlimitedControlsHaveNoNextPage() {
+        var controls = OffsetPaginationSystem.createPaginationControls(OffsetPagination.offset(10, null), true);
+
+        assertThat(controls.next()).isEmpty();
+        assertThat(OffsetPagination.offset(10, null).getPageNumber()).isEqualTo(1);
+        assertThat(OffsetPagination.firstPage().getPageNumber()).isZero();
+    }
+}